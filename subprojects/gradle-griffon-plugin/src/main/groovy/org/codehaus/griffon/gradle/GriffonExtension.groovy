@@ -39,6 +39,12 @@ class GriffonExtension {
 
     Map applicationProperties = [:]
 
+    /**
+     * Compiles i18n properties files into binary resource bundles after resources have been processed.
+     * Requires griffon-core 2.9.0 or later on the compile classpath.
+     */
+    boolean compileResourceBundles
+
     GriffonExtension(Project project) {
     }
 }
@@ -109,6 +109,25 @@ class GriffonPlugin implements Plugin<Project> {
         }
     }
 
+    private void compileResourceBundles(Project project, SourceSet sourceSet) {
+        Task processResourcesTask = project.tasks.findByName(sourceSet.processResourcesTaskName)
+        processResourcesTask.doLast {
+            File resourcesDir = sourceSet.output.resourcesDir
+            List<String> bundles = project.fileTree('griffon-app/i18n').matching {
+                include '**/*.properties'
+            }.collect { File file ->
+                new File(resourcesDir, project.file('griffon-app/i18n').toPath().relativize(file.toPath()).toString()).absolutePath
+            }
+            if (bundles) {
+                project.javaexec {
+                    main = 'org.codehaus.griffon.runtime.util.ResourceBundleCompiler'
+                    classpath = sourceSet.compileClasspath
+                    args = bundles
+                }
+            }
+        }
+    }
+
     private void configureApplicationSettings(Project project, GriffonExtension extension) {
         Task createDistributionFiles = project.tasks.create(name: 'createDistributionFiles', type: Copy, group: 'Application') {
             destinationDir = project.file("${project.buildDir}/assemble/distribution")
@@ -211,6 +230,9 @@ class GriffonPlugin implements Plugin<Project> {
 
                 processResources(project, project.sourceSets.main, extension)
                 processResources(project, project.sourceSets.test, extension)
+                if (extension.compileResourceBundles) {
+                    compileResourceBundles(project, project.sourceSets.main)
+                }
 
                 project.plugins.withId('org.kordamp.gradle.stats') { plugin ->
                     Task statsTask = project.tasks.findByName('stats')
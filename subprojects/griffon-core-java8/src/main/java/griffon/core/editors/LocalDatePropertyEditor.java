@@ -16,9 +16,12 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.formatters.LocalDateFormatter;
 import griffon.metadata.PropertyEditorFor;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
@@ -37,6 +40,14 @@ import static java.time.LocalDate.ofEpochDay;
  */
 @PropertyEditorFor(LocalDate.class)
 public class LocalDatePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<LocalDate> FORMATTER_FACTORY = new FormatterRegistry.Factory<LocalDate>() {
+        @Nonnull
+        @Override
+        public Formatter<LocalDate> create(@Nullable String pattern) {
+            return new LocalDateFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -75,7 +86,7 @@ public class LocalDatePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalDate> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.sharedFormatter(LocalDate.class, getFormat(), FORMATTER_FACTORY);
     }
 
     protected void handleAsList(List<?> list) {
@@ -16,9 +16,12 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.formatters.LocalDateTimeFormatter;
 import griffon.metadata.PropertyEditorFor;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -36,6 +39,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  */
 @PropertyEditorFor(LocalDateTime.class)
 public class LocalDateTimePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<LocalDateTime> FORMATTER_FACTORY = new FormatterRegistry.Factory<LocalDateTime>() {
+        @Nonnull
+        @Override
+        public Formatter<LocalDateTime> create(@Nullable String pattern) {
+            return new LocalDateTimeFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -86,7 +97,7 @@ public class LocalDateTimePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalDateTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalDateTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.sharedFormatter(LocalDateTime.class, getFormat(), FORMATTER_FACTORY);
     }
 
     protected void handleAsList(List<?> list) {
@@ -16,9 +16,12 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.formatters.LocalTimeFormatter;
 import griffon.metadata.PropertyEditorFor;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
@@ -35,6 +38,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  */
 @PropertyEditorFor(LocalTime.class)
 public class LocalTimePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<LocalTime> FORMATTER_FACTORY = new FormatterRegistry.Factory<LocalTime>() {
+        @Nonnull
+        @Override
+        public Formatter<LocalTime> create(@Nullable String pattern) {
+            return new LocalTimeFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -85,7 +96,7 @@ public class LocalTimePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<LocalTime> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LocalTimeFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.sharedFormatter(LocalTime.class, getFormat(), FORMATTER_FACTORY);
     }
 
     protected void handleAsList(List<?> list) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.core.Configuration;
+import griffon.core.artifact.ArtifactManager;
+import griffon.core.artifact.GriffonControllerClass;
+import griffon.core.i18n.MessageSource;
+import griffon.core.i18n.NoSuchMessageException;
+import griffon.core.threading.UIThreadManager;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates do-nothing implementations of framework interfaces for benchmarks.<p>
+ * Stubs answer with another stub for the core services an application exposes, with a single
+ * {@code work} action for controllers, with the default value argument when a method takes one,
+ * and with {@code null} or {@code false} otherwise.
+ *
+ * @author Andres Almiray
+ */
+public final class BenchmarkStubs {
+    private static final InvocationHandler STUBS = new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Class<?> returnType = method.getReturnType();
+            switch (method.getName()) {
+                case "getConfiguration":
+                    return stub(Configuration.class);
+                case "getMessageSource":
+                    return stub(MessageSource.class);
+                case "getArtifactManager":
+                    return stub(ArtifactManager.class);
+                case "getUIThreadManager":
+                    return stub(UIThreadManager.class);
+                case "findGriffonClass":
+                    return stub(GriffonControllerClass.class);
+                case "getActionNames":
+                    return new String[]{"work"};
+                case "asFlatMap":
+                    return Collections.emptyMap();
+                case "getMessage":
+                    if (args.length == 1) {
+                        throw new NoSuchMessageException(String.valueOf(args[0]));
+                    }
+                    break;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return method.getDeclaringClass().getSimpleName();
+                default:
+                    break;
+            }
+
+            // return the default value argument if there is one
+            if (args != null && args.length > 1 && returnType.isInstance(args[args.length - 1])) {
+                return args[args.length - 1];
+            }
+            if (returnType == Boolean.TYPE) {
+                return false;
+            }
+            return null;
+        }
+    };
+
+    private BenchmarkStubs() {
+        // prevent instantiation
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(@Nonnull Class<T> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        return (T) Proxy.newProxyInstance(BenchmarkStubs.class.getClassLoader(), new Class<?>[]{type}, STUBS);
+    }
+}
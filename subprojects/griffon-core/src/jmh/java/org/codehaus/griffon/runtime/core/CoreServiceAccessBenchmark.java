@@ -0,0 +1,101 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import griffon.core.Configuration;
+import griffon.core.event.EventRouter;
+import griffon.core.injection.Injector;
+import griffon.core.view.WindowManager;
+import integration.GuiceInjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static griffon.util.AnnotationUtils.named;
+import static org.codehaus.griffon.runtime.core.BenchmarkStubs.stub;
+
+/**
+ * Compares the per-call cost of resolving core services through the {@code Injector}, as
+ * application accessors used to do, with the memoized accessors of {@code AbstractGriffonApplication}.
+ * Services are bound as singletons in a Guice backed injector, as they are in applications.
+ * Run with {@code gradle :griffon-core:jmh}.
+ *
+ * @author Andres Almiray
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoreServiceAccessBenchmark {
+    private Injector<?> injector;
+    private AbstractGriffonApplication application;
+
+    @Setup
+    public void setup() {
+        injector = new GuiceInjector(Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Configuration.class).toInstance(stub(Configuration.class));
+                bind(EventRouter.class).annotatedWith(named("applicationEventRouter")).toInstance(stub(EventRouter.class));
+                bind(WindowManager.class).toInstance(stub(WindowManager.class));
+            }
+        }));
+
+        application = new AbstractGriffonApplication() {
+            @Nonnull
+            @Override
+            public Object createApplicationContainer(@Nonnull Map<String, Object> attributes) {
+                return new Object();
+            }
+        };
+        application.setInjector(injector);
+    }
+
+    @Benchmark
+    public Object injectorConfiguration() {
+        return injector.getInstance(Configuration.class);
+    }
+
+    @Benchmark
+    public Object memoizedConfiguration() {
+        return application.getConfiguration();
+    }
+
+    @Benchmark
+    public Object injectorEventRouter() {
+        return injector.getInstance(EventRouter.class, named("applicationEventRouter"));
+    }
+
+    @Benchmark
+    public Object memoizedEventRouter() {
+        return application.getEventRouter();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.controller;
+
+import griffon.core.GriffonApplication;
+import griffon.core.controller.Action;
+import griffon.transform.Threading;
+import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static griffon.util.GriffonClassUtils.EMPTY_ARGS;
+import static org.codehaus.griffon.runtime.core.BenchmarkStubs.stub;
+
+/**
+ * Measures the cost of {@code ActionManager.invokeAction} with a varying number of
+ * {@code ActionHandler}s. Run with {@code gradle :griffon-core:jmh}; the {@code gc}
+ * profiler reports allocations per invocation as {@code gc.alloc.rate.norm}.
+ *
+ * @author Andres Almiray
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionInvocationBenchmark {
+    @Param({"0", "3", "10"})
+    public int handlers;
+
+    private DefaultActionManager actionManager;
+    private Action action;
+    private BenchmarkController controller;
+
+    @Setup
+    public void setup() {
+        GriffonApplication application = stub(GriffonApplication.class);
+        actionManager = new DefaultActionManager(application);
+        for (int i = 0; i < handlers; i++) {
+            actionManager.addActionHandler(new AbstractActionHandler() {});
+        }
+
+        controller = new BenchmarkController(application);
+        actionManager.createActions(controller);
+        action = actionManager.actionFor(controller, "work");
+    }
+
+    @Benchmark
+    public int invokeAction() {
+        actionManager.invokeAction(action, EMPTY_ARGS);
+        return controller.count;
+    }
+
+    public static class BenchmarkController extends AbstractGriffonController {
+        private int count;
+
+        public BenchmarkController(GriffonApplication application) {
+            this.application = application;
+        }
+
+        @Threading(Threading.Policy.SKIP)
+        public void work() {
+            count++;
+        }
+    }
+}
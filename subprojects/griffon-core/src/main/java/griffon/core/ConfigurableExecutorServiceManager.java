@@ -0,0 +1,66 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import griffon.core.threading.ExecutorServiceStrategy;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An {@code ExecutorServiceManager} that creates the executors it manages, following the
+ * strategy and size configured per pool name.<p>
+ * Kept apart from {@code ExecutorServiceManager} so that existing implementations of that
+ * interface remain source compatible.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ConfigurableExecutorServiceManager extends ExecutorServiceManager {
+    /**
+     * Creates a new {@code ExecutorService} for the given pool name and starts managing it.<p>
+     * The strategy and size configured for the pool name are used, or the defaults if the pool
+     * name was not configured. The actual executor is created when the first task is submitted,
+     * thus configuration applied before that moment is honored.
+     *
+     * @param name          the name of the pool, i.e, "default", "event".
+     * @param threadFactory the factory used to create threads, if the strategy supports it.
+     *
+     * @return a new, managed {@code ExecutorService}
+     */
+    @Nonnull
+    ExecutorService newExecutorService(@Nonnull String name, @Nonnull ThreadFactory threadFactory);
+
+    /**
+     * Sets the default strategy and size for executors created with {@code newExecutorService}.
+     *
+     * @param strategy the strategy used to create executors.
+     * @param size     the number of threads or parallelism level. Values lower than 1 resolve to
+     *                 the number of available processors.
+     */
+    void configureExecutorServices(@Nonnull ExecutorServiceStrategy strategy, int size);
+
+    /**
+     * Sets the strategy and size for executors created with {@code newExecutorService} for the given pool name.
+     *
+     * @param name     the name of the pool.
+     * @param strategy the strategy used to create executors.
+     * @param size     the number of threads or parallelism level. Values lower than 1 resolve to
+     *                 the number of available processors.
+     */
+    void configureExecutorService(@Nonnull String name, @Nonnull ExecutorServiceStrategy strategy, int size);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Receives notifications when keys of an {@code ObservableMutableConfiguration} change.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ConfigurationChangeListener {
+    /**
+     * Called after a change has been applied. Keys changed by a single batch are reported together.
+     *
+     * @param configuration the configuration that changed
+     * @param keys          the keys that were set or removed, restricted to the keys the listener was registered for
+     */
+    void configurationChanged(@Nonnull MutableConfiguration configuration, @Nonnull Set<String> keys);
+}
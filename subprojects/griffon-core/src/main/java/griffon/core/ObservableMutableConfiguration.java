@@ -0,0 +1,69 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A {@code MutableConfiguration} that applies changes in batches and notifies listeners
+ * about them.<p>
+ * Kept apart from {@code MutableConfiguration} so that existing implementations of that
+ * interface remain source compatible.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ObservableMutableConfiguration extends MutableConfiguration {
+    /**
+     * Sets all key/value pairs in a single change. Listeners are notified once.
+     *
+     * @param values the key/value pairs to save
+     */
+    void setAll(@Nonnull Map<String, Object> values);
+
+    /**
+     * Removes all given keys in a single change. Listeners are notified once.
+     *
+     * @param keys the keys to be removed
+     */
+    void removeAll(@Nonnull Collection<String> keys);
+
+    /**
+     * Registers a listener that is notified of every change.
+     *
+     * @param listener the listener to register
+     */
+    void addConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener);
+
+    /**
+     * Registers a listener that is notified when the given key, or any key below it, changes.
+     * For example, a listener registered for {@code controller.threading} is notified of
+     * changes to {@code controller.threading} and {@code controller.threading.default}.
+     *
+     * @param keyOrPrefix the key or prefix to watch
+     * @param listener    the listener to register
+     */
+    void addConfigurationChangeListener(@Nonnull String keyOrPrefix, @Nonnull ConfigurationChangeListener listener);
+
+    /**
+     * Unregisters a listener, regardless of the keys it was registered for.
+     *
+     * @param listener the listener to unregister
+     */
+    void removeConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener);
+}
@@ -17,7 +17,10 @@ package griffon.core.editors;
 
 import griffon.core.formatters.BigDecimalFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -28,6 +31,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class BigDecimalPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<BigDecimal> FORMATTER_FACTORY = new FormatterRegistry.Factory<BigDecimal>() {
+        @Nonnull
+        @Override
+        public Formatter<BigDecimal> create(@Nullable String pattern) {
+            return new BigDecimalFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -59,6 +70,6 @@ public class BigDecimalPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<BigDecimal> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigDecimalFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(BigDecimal.class, getFormat(), FORMATTER_FACTORY);
     }
 }
@@ -17,7 +17,10 @@ package griffon.core.editors;
 
 import griffon.core.formatters.BigIntegerFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -28,6 +31,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class BigIntegerPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<BigInteger> FORMATTER_FACTORY = new FormatterRegistry.Factory<BigInteger>() {
+        @Nonnull
+        @Override
+        public Formatter<BigInteger> create(@Nullable String pattern) {
+            return new BigIntegerFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -59,6 +70,6 @@ public class BigIntegerPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<BigInteger> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new BigIntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(BigInteger.class, getFormat(), FORMATTER_FACTORY);
     }
 }
@@ -17,6 +17,10 @@ package griffon.core.editors;
 
 import griffon.core.formatters.ByteFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -25,6 +29,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class BytePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Byte> FORMATTER_FACTORY = new FormatterRegistry.Factory<Byte>() {
+        @Nonnull
+        @Override
+        public Formatter<Byte> create(@Nullable String pattern) {
+            return new ByteFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -50,6 +62,6 @@ public class BytePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Byte> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ByteFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Byte.class, getFormat(), FORMATTER_FACTORY);
     }
 }
@@ -17,9 +17,11 @@ package griffon.core.editors;
 
 import griffon.core.formatters.CalendarFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.ParseException;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -30,6 +32,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class CalendarPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Calendar> FORMATTER_FACTORY = new FormatterRegistry.Factory<Calendar>() {
+        @Nonnull
+        @Override
+        public Formatter<Calendar> create(@Nullable String pattern) {
+            return new CalendarFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -56,8 +66,8 @@ public class CalendarPropertyEditor extends AbstractPropertyEditor {
             return;
         }
 
-        Calendar c = Calendar.getInstance();
         try {
+            Calendar c = Calendar.getInstance();
             c.setTime(new Date(Long.parseLong(str)));
             super.setValueInternal(c);
             return;
@@ -66,14 +76,13 @@ public class CalendarPropertyEditor extends AbstractPropertyEditor {
         }
 
         try {
-            c.setTime(new SimpleDateFormat().parse(str));
-            super.setValueInternal(c);
+            super.setValueInternal(FormatterRegistry.threadLocalFormatter(Calendar.class, null, FORMATTER_FACTORY).parse(str));
         } catch (ParseException e) {
             throw illegalValue(str, Calendar.class, e);
         }
     }
 
     protected Formatter<Calendar> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new CalendarFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Calendar.class, getFormat(), FORMATTER_FACTORY);
     }
 }
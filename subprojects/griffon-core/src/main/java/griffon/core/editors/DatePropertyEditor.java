@@ -17,9 +17,11 @@ package griffon.core.editors;
 
 import griffon.core.formatters.DateFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+import griffon.core.formatters.ParseException;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -30,6 +32,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class DatePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Date> FORMATTER_FACTORY = new FormatterRegistry.Factory<Date>() {
+        @Nonnull
+        @Override
+        public Formatter<Date> create(@Nullable String pattern) {
+            return new DateFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -60,13 +70,13 @@ public class DatePropertyEditor extends AbstractPropertyEditor {
         }
 
         try {
-            super.setValueInternal(new SimpleDateFormat().parse(str));
+            super.setValueInternal(FormatterRegistry.threadLocalFormatter(Date.class, null, FORMATTER_FACTORY).parse(str));
         } catch (ParseException e) {
             throw illegalValue(str, Date.class, e);
         }
     }
 
     protected Formatter<Date> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DateFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Date.class, getFormat(), FORMATTER_FACTORY);
     }
 }
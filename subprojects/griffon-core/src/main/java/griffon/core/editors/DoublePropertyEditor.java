@@ -17,6 +17,10 @@ package griffon.core.editors;
 
 import griffon.core.formatters.DoubleFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -25,6 +29,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class DoublePropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Double> FORMATTER_FACTORY = new FormatterRegistry.Factory<Double>() {
+        @Nonnull
+        @Override
+        public Formatter<Double> create(@Nullable String pattern) {
+            return new DoubleFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -50,6 +62,6 @@ public class DoublePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Double> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new DoubleFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Double.class, getFormat(), FORMATTER_FACTORY);
     }
 }
@@ -17,6 +17,10 @@ package griffon.core.editors;
 
 import griffon.core.formatters.FloatFormatter;
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import static griffon.util.GriffonNameUtils.isBlank;
 
@@ -25,6 +29,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class FloatPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Float> FORMATTER_FACTORY = new FormatterRegistry.Factory<Float>() {
+        @Nonnull
+        @Override
+        public Formatter<Float> create(@Nullable String pattern) {
+            return new FloatFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -50,6 +62,6 @@ public class FloatPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Float> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new FloatFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Float.class, getFormat(), FORMATTER_FACTORY);
     }
 }
@@ -16,8 +16,12 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.formatters.IntegerFormatter;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -25,6 +29,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class IntegerPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Integer> FORMATTER_FACTORY = new FormatterRegistry.Factory<Integer>() {
+        @Nonnull
+        @Override
+        public Formatter<Integer> create(@Nullable String pattern) {
+            return new IntegerFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -50,6 +62,6 @@ public class IntegerPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Integer> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new IntegerFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Integer.class, getFormat(), FORMATTER_FACTORY);
     }
 }
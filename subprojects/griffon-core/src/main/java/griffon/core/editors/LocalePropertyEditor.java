@@ -25,6 +25,9 @@ import java.util.Locale;
  * @since 2.0.0
  */
 public class LocalePropertyEditor extends AbstractPropertyEditor {
+    // LocaleFormatter is stateless
+    private static final Formatter<Locale> FORMATTER = new LocaleFormatter();
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -38,6 +41,6 @@ public class LocalePropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Locale> resolveFormatter() {
-        return new LocaleFormatter();
+        return FORMATTER;
     }
 }
@@ -16,8 +16,12 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.formatters.LongFormatter;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -25,6 +29,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class LongPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Long> FORMATTER_FACTORY = new FormatterRegistry.Factory<Long>() {
+        @Nonnull
+        @Override
+        public Formatter<Long> create(@Nullable String pattern) {
+            return new LongFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -50,6 +62,6 @@ public class LongPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Long> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new LongFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Long.class, getFormat(), FORMATTER_FACTORY);
     }
 }
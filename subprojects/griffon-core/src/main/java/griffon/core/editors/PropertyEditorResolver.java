@@ -26,9 +26,10 @@ import java.beans.PropertyEditorManager;
 import java.beans.PropertyEditorSupport;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.WeakHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -44,10 +45,9 @@ import static java.util.Objects.requireNonNull;
 public final class PropertyEditorResolver {
     private static final Logger LOG = LoggerFactory.getLogger(PropertyEditorResolver.class);
     private static final Object LOCK = new Object[0];
-    @GuardedBy("LOCK")
-    private static final WeakCache<String, Class<? extends PropertyEditor>> propertyEditorRegistry = new WeakCache();
-    @GuardedBy("LOCK")
-    private static final Map<String, PropertyEditorChain> propertyEditorChainRegistry = new LinkedHashMap<>();
+    // copy-on-write snapshots; writers hold LOCK, readers never lock
+    private static volatile Map<String, Reference<Class<? extends PropertyEditor>>> propertyEditorRegistry = Collections.emptyMap();
+    private static volatile Map<String, PropertyEditorChain> propertyEditorChainRegistry = Collections.emptyMap();
     private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
 
     private PropertyEditorResolver() {
@@ -61,8 +61,9 @@ public final class PropertyEditorResolver {
      */
     public static void clear() {
         synchronized (LOCK) {
-            propertyEditorRegistry.clear();
-            propertyEditorChainRegistry.clear();
+            propertyEditorRegistry = Collections.emptyMap();
+            propertyEditorChainRegistry = Collections.emptyMap();
+            ValueConversionService.invalidate();
         }
     }
 
@@ -114,8 +115,11 @@ public final class PropertyEditorResolver {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         synchronized (LOCK) {
             String targetTypeName = targetType.getName();
-            propertyEditorChainRegistry.remove(targetTypeName);
-            propertyEditorRegistry.remove(targetTypeName);
+            Map<String, Reference<Class<? extends PropertyEditor>>> editors = new HashMap<>(propertyEditorRegistry);
+            Map<String, PropertyEditorChain> chains = new HashMap<>(propertyEditorChainRegistry);
+            chains.remove(targetTypeName);
+            editors.remove(targetTypeName);
+            publish(editors, chains);
         }
     }
 
@@ -137,9 +141,12 @@ public final class PropertyEditorResolver {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         synchronized (LOCK) {
             String targetTypeName = targetType.getName();
+            Map<String, Reference<Class<? extends PropertyEditor>>> propertyEditorRegistry = new HashMap<>(PropertyEditorResolver.propertyEditorRegistry);
+            Map<String, PropertyEditorChain> propertyEditorChainRegistry = new HashMap<>(PropertyEditorResolver.propertyEditorChainRegistry);
             if (editorClass == null) {
                 propertyEditorChainRegistry.remove(targetTypeName);
                 propertyEditorRegistry.remove(targetTypeName);
+                publish(propertyEditorRegistry, propertyEditorChainRegistry);
                 return;
             }
 
@@ -152,11 +159,11 @@ public final class PropertyEditorResolver {
                 } else {
                     // standard registration
                     propertyEditorChainRegistry.remove(targetTypeName);
-                    propertyEditorRegistry.put(targetTypeName, editorClass);
+                    propertyEditorRegistry.put(targetTypeName, new WeakReference<Class<? extends PropertyEditor>>(editorClass));
                 }
             } else {
                 // is targetType handled by an editor ?
-                Class<? extends PropertyEditor> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
+                Class<? extends PropertyEditor> propertyEditorType = dereference(propertyEditorRegistry.get(targetTypeName));
                 if (propertyEditorType != null) {
                     propertyEditorRegistry.remove(targetTypeName);
                     Class<? extends PropertyEditor>[] propertyEditorClasses = new Class[2];
@@ -168,87 +175,55 @@ public final class PropertyEditorResolver {
                     } else {
                         // standard registration
                         propertyEditorChainRegistry.remove(targetTypeName);
-                        propertyEditorRegistry.put(targetTypeName, editorClass);
+                        propertyEditorRegistry.put(targetTypeName, new WeakReference<Class<? extends PropertyEditor>>(editorClass));
                     }
                 } else {
                     // standard registration
                     propertyEditorChainRegistry.remove(targetTypeName);
-                    propertyEditorRegistry.put(targetTypeName, editorClass);
+                    propertyEditorRegistry.put(targetTypeName, new WeakReference<Class<? extends PropertyEditor>>(editorClass));
                 }
             }
+            publish(propertyEditorRegistry, propertyEditorChainRegistry);
         }
     }
 
     private static PropertyEditor doFindEditor(Class<?> targetType) {
-        synchronized (LOCK) {
-            String targetTypeName = targetType.getName();
-            if (propertyEditorChainRegistry.containsKey(targetTypeName)) {
-                PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
-                return chain.copyOf();
-            } else {
-                Class<?> propertyEditorType = propertyEditorRegistry.get(targetTypeName);
-                if (propertyEditorType != null) {
-                    try {
-                        return (PropertyEditor) propertyEditorType.newInstance();
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
-                    }
-                }
-            }
+        String targetTypeName = targetType.getName();
+        PropertyEditorChain chain = propertyEditorChainRegistry.get(targetTypeName);
+        if (chain != null) {
+            return chain.copyOf();
         }
-        return null;
-    }
-
-    public static final class NoopPropertyEditor extends PropertyEditorSupport {
 
-    }
-
-    private static final class WeakCache<K, V> {
-        private final Map<K, Reference<V>> map = new WeakHashMap<>();
-
-        private V get(K key) {
-            Reference reference = this.map.get(key);
-            if (reference == null) {
-                return null;
-            } else {
-                V value = (V) reference.get();
-                if (value == null) {
-                    this.map.remove(key);
-                }
-
-                return value;
+        Class<?> propertyEditorType = dereference(propertyEditorRegistry.get(targetTypeName));
+        if (propertyEditorType != null) {
+            try {
+                return (PropertyEditor) propertyEditorType.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException("Can't instantiate " + propertyEditorType, e);
             }
         }
+        return null;
+    }
 
-        private void put(K key, V value) {
-            if (value != null) {
-                this.map.put(key, new WeakReference<>(value));
-            } else {
-                this.map.remove(key);
+    @GuardedBy("LOCK")
+    private static void publish(@Nonnull Map<String, Reference<Class<? extends PropertyEditor>>> editors, @Nonnull Map<String, PropertyEditorChain> chains) {
+        // drop editors whose class has been unloaded
+        for (Iterator<Reference<Class<? extends PropertyEditor>>> it = editors.values().iterator(); it.hasNext(); ) {
+            if (it.next().get() == null) {
+                it.remove();
             }
         }
+        propertyEditorRegistry = Collections.unmodifiableMap(editors);
+        propertyEditorChainRegistry = Collections.unmodifiableMap(chains);
+        ValueConversionService.invalidate();
+    }
 
-        private void remove(K key) {
-            this.map.remove(key);
-        }
-
-        private boolean contains(K key) {
-            Reference reference = this.map.get(key);
-            if (reference == null) {
-                return false;
-            } else {
-                V value = (V) reference.get();
-                if (value == null) {
-                    this.map.remove(key);
-                    return false;
-                }
+    @Nullable
+    private static <T> T dereference(@Nullable Reference<T> reference) {
+        return reference != null ? reference.get() : null;
+    }
 
-                return true;
-            }
-        }
+    public static final class NoopPropertyEditor extends PropertyEditorSupport {
 
-        private void clear() {
-            this.map.clear();
-        }
     }
 }
@@ -16,8 +16,12 @@
 package griffon.core.editors;
 
 import griffon.core.formatters.Formatter;
+import griffon.core.formatters.FormatterRegistry;
 import griffon.core.formatters.ShortFormatter;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import static griffon.util.GriffonNameUtils.isBlank;
 
 /**
@@ -25,6 +29,14 @@ import static griffon.util.GriffonNameUtils.isBlank;
  * @since 2.0.0
  */
 public class ShortPropertyEditor extends AbstractPropertyEditor {
+    private static final FormatterRegistry.Factory<Short> FORMATTER_FACTORY = new FormatterRegistry.Factory<Short>() {
+        @Nonnull
+        @Override
+        public Formatter<Short> create(@Nullable String pattern) {
+            return new ShortFormatter(pattern);
+        }
+    };
+
     protected void setValueInternal(Object value) {
         if (null == value) {
             super.setValueInternal(null);
@@ -50,6 +62,6 @@ public class ShortPropertyEditor extends AbstractPropertyEditor {
     }
 
     protected Formatter<Short> resolveFormatter() {
-        return isBlank(getFormat()) ? null : new ShortFormatter(getFormat());
+        return isBlank(getFormat()) ? null : FormatterRegistry.threadLocalFormatter(Short.class, getFormat(), FORMATTER_FACTORY);
     }
 }
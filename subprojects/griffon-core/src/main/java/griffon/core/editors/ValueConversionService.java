@@ -0,0 +1,243 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.beans.PropertyEditor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static griffon.util.GriffonNameUtils.isBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts values with the editors known to {@code PropertyEditorResolver} without
+ * locating an editor on every conversion.<p>
+ * A converter is resolved once per target type and format and cached until editors are
+ * registered, unregistered or cleared. Editors that extend {@code AbstractPropertyEditor}
+ * are reused, one instance per thread; types without an editor skip editing altogether.
+ * Any other editor is considered a legacy editor and a fresh instance is located for each
+ * conversion, as {@code PropertyEditorResolver.findEditor} would.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class ValueConversionService {
+    private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
+    private static final String NO_FORMAT = "";
+
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<String, Converter>> converters = new ConcurrentHashMap<>();
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private ValueConversionService() {
+
+    }
+
+    /**
+     * Converts a value with {@code PropertyEditor.setValue()}.
+     *
+     * @param value      the value to convert
+     * @param targetType the type to convert to
+     * @return the converted value, or {@code null} if {@code value} is {@code null}
+     */
+    @Nullable
+    public static <T> T convertValue(@Nullable Object value, @Nonnull Class<T> targetType) {
+        return convertValue(value, targetType, null);
+    }
+
+    /**
+     * Converts a value with {@code PropertyEditor.setValue()}, using the given format
+     * if the target editor is an {@code ExtendedPropertyEditor}.
+     *
+     * @param value      the value to convert
+     * @param targetType the type to convert to
+     * @param format     the format to use, may be {@code null}
+     * @return the converted value, or {@code null} if {@code value} is {@code null}
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> T convertValue(@Nullable Object value, @Nonnull Class<T> targetType, @Nullable String format) {
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        if (value == null) {
+            return null;
+        }
+        if (targetType.isAssignableFrom(value.getClass())) {
+            return (T) value;
+        }
+        return (T) converterFor(targetType, format).convert(value, false);
+    }
+
+    /**
+     * Converts text with {@code PropertyEditor.setAsText()}, using the given format
+     * if the target editor is an {@code ExtendedPropertyEditor}.
+     *
+     * @param text       the text to convert
+     * @param targetType the type to convert to
+     * @param format     the format to use, may be {@code null}
+     * @return the converted value
+     */
+    @Nullable
+    public static Object convertText(@Nonnull String text, @Nonnull Class<?> targetType, @Nullable String format) {
+        requireNonNull(text, "Argument 'text' must not be null");
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        return converterFor(targetType, format).convert(text, true);
+    }
+
+    /**
+     * Discards all cached converters.
+     */
+    static void invalidate() {
+        generation.incrementAndGet();
+        converters.clear();
+    }
+
+    @Nonnull
+    private static Converter converterFor(@Nonnull Class<?> targetType, @Nullable String format) {
+        String key = isBlank(format) ? NO_FORMAT : format;
+        ConcurrentMap<String, Converter> byFormat = converters.get(targetType);
+        if (byFormat != null) {
+            Converter converter = byFormat.get(key);
+            if (converter != null) {
+                return converter;
+            }
+        }
+
+        int currentGeneration = generation.get();
+        Converter converter = createConverter(targetType, key);
+        // don't cache converters resolved while editors were being changed
+        if (currentGeneration == generation.get()) {
+            if (byFormat == null) {
+                byFormat = new ConcurrentHashMap<>();
+                ConcurrentMap<String, Converter> existing = converters.putIfAbsent(targetType, byFormat);
+                if (existing != null) {
+                    byFormat = existing;
+                }
+            }
+            byFormat.putIfAbsent(key, converter);
+        }
+        return converter;
+    }
+
+    @Nonnull
+    private static Converter createConverter(@Nonnull Class<?> targetType, @Nonnull String format) {
+        PropertyEditor editor = PropertyEditorResolver.findEditor(targetType);
+        if (editor instanceof PropertyEditorResolver.NoopPropertyEditor) {
+            return NoopConverter.INSTANCE;
+        } else if (editor instanceof AbstractPropertyEditor) {
+            return new ReusableEditorConverter(targetType, format, (AbstractPropertyEditor) editor);
+        }
+        return new LegacyEditorConverter(targetType, format);
+    }
+
+    @Nullable
+    private static Object edit(@Nonnull PropertyEditor editor, @Nonnull Object value, boolean asText) {
+        if (asText) {
+            editor.setAsText((String) value);
+        } else {
+            editor.setValue(value);
+        }
+        return editor.getValue();
+    }
+
+    private static void applyFormat(@Nonnull PropertyEditor editor, @Nonnull String format) {
+        if (editor instanceof ExtendedPropertyEditor && !isBlank(format)) {
+            ((ExtendedPropertyEditor) editor).setFormat(format);
+        }
+    }
+
+    private interface Converter {
+        @Nullable
+        Object convert(@Nonnull Object value, boolean asText);
+    }
+
+    private static final class NoopConverter implements Converter {
+        private static final NoopConverter INSTANCE = new NoopConverter();
+
+        @Nullable
+        @Override
+        public Object convert(@Nonnull Object value, boolean asText) {
+            // same outcome as PropertyEditorSupport with no value set
+            if (asText) {
+                throw new IllegalArgumentException(String.valueOf(value));
+            }
+            return value;
+        }
+    }
+
+    private static final class ReusableEditorConverter implements Converter {
+        private final Class<?> targetType;
+        private final String format;
+        private final ThreadLocal<AbstractPropertyEditor> editors = new ThreadLocal<>();
+
+        private ReusableEditorConverter(@Nonnull Class<?> targetType, @Nonnull String format, @Nonnull AbstractPropertyEditor editor) {
+            this.targetType = targetType;
+            this.format = format;
+            applyFormat(editor, format);
+            editors.set(editor);
+        }
+
+        @Nullable
+        @Override
+        public Object convert(@Nonnull Object value, boolean asText) {
+            AbstractPropertyEditor editor = editors.get();
+            if (editor == null) {
+                PropertyEditor candidate = PropertyEditorResolver.findEditor(targetType);
+                if (!(candidate instanceof AbstractPropertyEditor)) {
+                    // editors changed since this converter was created
+                    applyFormat(candidate, format);
+                    return edit(candidate, value, asText);
+                }
+                editor = (AbstractPropertyEditor) candidate;
+                applyFormat(editor, format);
+            } else {
+                // a nested conversion of the same type on this thread gets its own editor
+                editors.set(null);
+            }
+
+            try {
+                return edit(editor, value, asText);
+            } finally {
+                // don't hold on to the last converted value
+                try {
+                    editor.setValueInternal(null);
+                } catch (RuntimeException ignored) {
+                    // nothing to release
+                }
+                editors.set(editor);
+            }
+        }
+    }
+
+    private static final class LegacyEditorConverter implements Converter {
+        private final Class<?> targetType;
+        private final String format;
+
+        private LegacyEditorConverter(@Nonnull Class<?> targetType, @Nonnull String format) {
+            this.targetType = targetType;
+            this.format = format;
+        }
+
+        @Nullable
+        @Override
+        public Object convert(@Nonnull Object value, boolean asText) {
+            PropertyEditor editor = PropertyEditorResolver.findEditor(targetType);
+            applyFormat(editor, format);
+            return edit(editor, value, asText);
+        }
+    }
+}
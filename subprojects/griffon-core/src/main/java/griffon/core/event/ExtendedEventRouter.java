@@ -0,0 +1,176 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.event;
+
+import griffon.core.RunnableWithArgs;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * An {@code EventRouter} that supports typed listeners, coalesced events and per thread
+ * suspension of event publishing.<p>
+ * Kept apart from {@code EventRouter} so that existing implementations of that interface
+ * remain source compatible.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ExtendedEventRouter extends EventRouter {
+    /**
+     * Adds a listener for events of the given type or any of its subtypes.<p>
+     * Typed listeners are matched by {@code Class} rather than by simple name, and are
+     * only notified by the {@code publishTypedEvent} family of methods.
+     *
+     * @param eventClass the type of the event
+     * @param listener   an event listener
+     * @since 2.9.0
+     */
+    <E extends Event> void addTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull RunnableWithArgs listener);
+
+    /**
+     * Removes a typed listener.<p>
+     *
+     * @param eventClass the type of the event
+     * @param listener   an event listener
+     * @since 2.9.0
+     */
+    <E extends Event> void removeTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull RunnableWithArgs listener);
+
+    /**
+     * Adds a Java bean as a typed listener. Every public {@code onXxx} method that takes a single
+     * argument whose type is a subtype of {@code Event} is registered for that type.<p>
+     * Typed listeners are only notified by the {@code publishTypedEvent} family of methods.
+     *
+     * @param listener an event listener
+     * @since 2.9.0
+     */
+    void addTypedEventListener(@Nonnull Object listener);
+
+    /**
+     * Removes a Java bean typed listener.<p>
+     *
+     * @param listener an event listener
+     * @since 2.9.0
+     */
+    void removeTypedEventListener(@Nonnull Object listener);
+
+    /**
+     * Publishes an event to all typed listeners registered for its class or any of its supertypes.<p>
+     * Listeners will be notified in the same thread as the publisher.
+     *
+     * @param event the event to be published
+     * @since 2.9.0
+     */
+    void publishTypedEvent(@Nonnull Event event);
+
+    /**
+     * Publishes an event to all typed listeners registered for its class or any of its supertypes.<p>
+     * Listeners will be notified outside of the UI thread.
+     *
+     * @param event the event to be published
+     * @since 2.9.0
+     */
+    void publishTypedEventOutsideUI(@Nonnull Event event);
+
+    /**
+     * Publishes an event to all typed listeners registered for its class or any of its supertypes.<p>
+     * Listeners will be notified in a different thread.
+     *
+     * @param event the event to be published
+     * @since 2.9.0
+     */
+    void publishTypedEventAsync(@Nonnull Event event);
+
+    /**
+     * Publishes an event that may be coalesced with other events of the same name.<p>
+     * Equivalent to {@code publishEventCoalesced(eventName, null, args)}.
+     *
+     * @param eventName the name of the event
+     * @param args      event arguments sent to listeners
+     * @since 2.9.0
+     */
+    void publishEventCoalesced(@Nonnull String eventName, @Nullable List<?> args);
+
+    /**
+     * Publishes an event that may be coalesced with other events of the same name.<p>
+     * Events are held for the duration of the coalescing window. When the window closes,
+     * regular listeners are notified once per distinct coalescing key with the latest arguments
+     * published for that key, while batch listeners receive a single {@code List} with the
+     * arguments of every event published during the window. Listeners will be notified in a
+     * different thread.
+     *
+     * @param eventName     the name of the event
+     * @param coalescingKey events with equal keys replace each other; may be {@code null}
+     * @param args          event arguments sent to listeners
+     * @since 2.9.0
+     */
+    void publishEventCoalesced(@Nonnull String eventName, @Nullable Object coalescingKey, @Nullable List<?> args);
+
+    /**
+     * Adds a listener that receives coalesced events as a batch.<p>
+     * The listener is invoked with a single argument: a {@code List} whose elements are the
+     * argument lists of each event published within a coalescing window. Batch listeners are
+     * captured when a window opens; a listener added while a window is open is first notified
+     * when the next window closes.
+     *
+     * @param eventName the name of the event
+     * @param listener  an event listener
+     * @since 2.9.0
+     */
+    void addBatchEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener);
+
+    /**
+     * Removes a batch listener.<p>
+     *
+     * @param eventName the name of the event
+     * @param listener  an event listener
+     * @since 2.9.0
+     */
+    void removeBatchEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener);
+
+    /**
+     * Returns the time, in milliseconds, coalesced events are held before being delivered.
+     *
+     * @since 2.9.0
+     */
+    long getEventCoalescingWindow();
+
+    /**
+     * Sets the time, in milliseconds, coalesced events are held before being delivered.
+     *
+     * @param window the coalescing window in milliseconds. Must not be negative.
+     * @since 2.9.0
+     */
+    void setEventCoalescingWindow(long window);
+
+    /**
+     * Discards events published by the current thread until a matching call to
+     * {@code resumeEventPublishingOnCurrentThread} is made. Events published by other
+     * threads are not affected. Calls may be nested.
+     *
+     * @since 2.9.0
+     */
+    void suspendEventPublishingOnCurrentThread();
+
+    /**
+     * Reverts a previous call to {@code suspendEventPublishingOnCurrentThread}.
+     *
+     * @since 2.9.0
+     */
+    void resumeEventPublishingOnCurrentThread();
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.event;
+
+/**
+ * Defines what happens when an event is published asynchronously and its delivery queue is full.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public enum OverflowPolicy {
+    /**
+     * The publishing thread waits until there is room in the queue. Threads that are delivering
+     * queued events do not wait; their events are rejected as with {@code FAIL}
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued event is discarded to make room for the new one
+     */
+    DROP_OLDEST,
+
+    /**
+     * The most recently queued event is replaced by the new one
+     */
+    COALESCE,
+
+    /**
+     * The new event is rejected with a {@code RejectedExecutionException}
+     */
+    FAIL
+}
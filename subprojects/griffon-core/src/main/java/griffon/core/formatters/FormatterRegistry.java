@@ -0,0 +1,152 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches {@code Formatter} instances per type, factory, pattern and default format locale.<p>
+ * Formatters backed by {@code java.text} formats are not thread safe and should be obtained with
+ * {@link #threadLocalFormatter(Class, String, Factory)}, which keeps one instance per thread.
+ * Immutable formatters may be obtained with {@link #sharedFormatter(Class, String, Factory)}.
+ * The registry is bounded; it is cleared once it grows past its capacity.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class FormatterRegistry {
+    private static final int CAPACITY = 1024;
+    private static final ConcurrentMap<Key, Object> formatters = new ConcurrentHashMap<>();
+
+    private FormatterRegistry() {
+
+    }
+
+    /**
+     * Creates formatters for a given pattern.
+     *
+     * @param <T> the type handled by created formatters
+     */
+    public interface Factory<T> {
+        @Nonnull
+        Formatter<T> create(@Nullable String pattern);
+    }
+
+    /**
+     * Returns a formatter that may be shared by all threads. Use this method only with factories
+     * that create immutable formatters.
+     *
+     * @param type    the type handled by the formatter
+     * @param pattern the pattern to use, may be {@code null}
+     * @param factory creates the formatter on a cache miss
+     * @return a cached formatter
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Formatter<T> sharedFormatter(@Nonnull Class<T> type, @Nullable String pattern, @Nonnull Factory<T> factory) {
+        Key key = new Key(type, factory, pattern);
+        Object formatter = formatters.get(key);
+        if (formatter == null) {
+            formatter = requireNonNull(factory.create(pattern), "Factory returned a null formatter");
+            formatter = cache(key, formatter);
+        }
+        return (Formatter<T>) formatter;
+    }
+
+    /**
+     * Returns a formatter confined to the calling thread. The formatter must not be handed over
+     * to other threads.
+     *
+     * @param type    the type handled by the formatter
+     * @param pattern the pattern to use, may be {@code null}
+     * @param factory creates the formatter the first time a thread asks for it
+     * @return a cached formatter
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> Formatter<T> threadLocalFormatter(@Nonnull Class<T> type, @Nullable String pattern, @Nonnull Factory<T> factory) {
+        Key key = new Key(type, factory, pattern);
+        ThreadLocal<Formatter<T>> holder = (ThreadLocal<Formatter<T>>) formatters.get(key);
+        if (holder == null) {
+            holder = (ThreadLocal<Formatter<T>>) cache(key, new ThreadLocal<Formatter<T>>());
+        }
+
+        Formatter<T> formatter = holder.get();
+        if (formatter == null) {
+            formatter = requireNonNull(factory.create(pattern), "Factory returned a null formatter");
+            holder.set(formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Removes all cached formatters.
+     */
+    public static void clear() {
+        formatters.clear();
+    }
+
+    @Nonnull
+    private static Object cache(@Nonnull Key key, @Nonnull Object value) {
+        if (formatters.size() >= CAPACITY) {
+            formatters.clear();
+        }
+        Object existing = formatters.putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    private static final class Key {
+        private final Class<?> type;
+        private final Factory<?> factory;
+        private final String pattern;
+        private final Locale locale;
+        private final int hash;
+
+        private Key(@Nonnull Class<?> type, @Nonnull Factory<?> factory, @Nullable String pattern) {
+            this.type = requireNonNull(type, "Argument 'type' must not be null");
+            this.factory = requireNonNull(factory, "Argument 'factory' must not be null");
+            this.pattern = pattern;
+            // formats created without an explicit locale use the default format locale
+            this.locale = Locale.getDefault(Locale.Category.FORMAT);
+            int h = type.hashCode();
+            h = 31 * h + System.identityHashCode(factory);
+            h = 31 * h + (pattern != null ? pattern.hashCode() : 0);
+            this.hash = 31 * h + locale.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return type == other.type &&
+                factory == other.factory &&
+                (pattern != null ? pattern.equals(other.pattern) : other.pattern == null) &&
+                locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
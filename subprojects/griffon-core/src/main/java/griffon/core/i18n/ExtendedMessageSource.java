@@ -0,0 +1,41 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.i18n;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+
+/**
+ * A {@code MessageSource} that can look up message values without throwing on missing keys.<p>
+ * Kept apart from {@code MessageSource} so that existing implementations of that interface
+ * remain source compatible.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ExtendedMessageSource extends MessageSource {
+    /**
+     * Resolves a message value like {@code resolveMessageValue} does, returning {@code null}
+     * instead of throwing an exception when the key can not be resolved.
+     *
+     * @param key    Key to lookup, such as 'log4j.appenders.console'
+     * @param locale Locale in which to lookup
+     * @return the resolved message value at the given key for the given locale, {@code null} if not found
+     */
+    @Nullable
+    Object resolveMessageValueOrNull(@Nonnull String key, @Nonnull Locale locale);
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * An {@code MVCGroupManager} that can create groups on a background thread and look up
+ * groups by type or parent.<p>
+ * Kept apart from {@code MVCGroupManager} so that existing implementations of that interface
+ * remain source compatible. Results are plain {@code Future}s rather than
+ * {@code CompletableFuture}s as the framework targets Java 7.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ExtendedMVCGroupManager extends MVCGroupManager {
+    /**
+     * Finds all registered groups of the given type, in no particular order.
+     *
+     * @param mvcType the type of the groups
+     * @return an immutable snapshot of the matching groups. Never returns {@code null}.
+     */
+    @Nonnull
+    Collection<MVCGroup> findGroupsByType(@Nonnull String mvcType);
+
+    /**
+     * Finds all registered groups whose parent is the given group, in no particular order.
+     *
+     * @param parentGroup the parent of the groups
+     * @return an immutable snapshot of the matching groups. Never returns {@code null}.
+     */
+    @Nonnull
+    Collection<MVCGroup> findChildGroups(@Nonnull MVCGroup parentGroup);
+
+    /**
+     * Creates a new MVC group instance on a background thread.<p>
+     * Members are instantiated and injected outside of the UI thread; the views of the group
+     * are initialized inside the UI thread in a single batch. Do not block on the returned
+     * {@code Future} while inside the UI thread.
+     *
+     * @param mvcType the type of group to build.
+     * @return a Future that holds the newly created group
+     */
+    @Nonnull
+    Future<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType);
+
+    /**
+     * Creates a new MVC group instance on a background thread.
+     *
+     * @param mvcType the type of group to build.
+     * @param mvcId   the name to assign to the built group.
+     * @return a Future that holds the newly created group
+     * @see #createMVCGroupAsync(String)
+     */
+    @Nonnull
+    Future<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull String mvcId);
+
+    /**
+     * Creates a new MVC group instance on a background thread.
+     *
+     * @param args    any useful values that can be set as properties on each MVC member or that
+     *                identify a member that can be shared with other groups.
+     * @param mvcType the type of group to build.
+     * @return a Future that holds the newly created group
+     * @see #createMVCGroupAsync(String)
+     */
+    @Nonnull
+    Future<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType);
+
+    /**
+     * Creates a new MVC group instance on a background thread.
+     *
+     * @param args    any useful values that can be set as properties on each MVC member or that
+     *                identify a member that can be shared with other groups.
+     * @param mvcType the type of group to build.
+     * @param mvcId   the name to assign to the built group.
+     * @return a Future that holds the newly created group
+     * @see #createMVCGroupAsync(String)
+     */
+    @Nonnull
+    Future<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType, @Nonnull String mvcId);
+}
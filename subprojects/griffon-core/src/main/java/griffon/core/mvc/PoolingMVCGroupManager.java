@@ -0,0 +1,55 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An {@code MVCGroupManager} that keeps destroyed component groups in bounded pools for reuse.<p>
+ * Pooling is enabled per group type by setting {@code pool.capacity} on a component group.
+ * Pool statistics are kept per group type and reset when pools are destroyed.
+ *
+ * @author Andres Almiray
+ * @see ResettableMVCMember
+ * @since 2.9.0
+ */
+public interface PoolingMVCGroupManager extends MVCGroupManager {
+    /**
+     * Returns the number of times a pooled group was handed out by {@code createMVCGroup}.
+     *
+     * @param mvcType the type of the group
+     */
+    long getPoolHitCount(@Nonnull String mvcType);
+
+    /**
+     * Returns the number of times {@code createMVCGroup} had to build a new instance of a pooled group type.
+     *
+     * @param mvcType the type of the group
+     */
+    long getPoolMissCount(@Nonnull String mvcType);
+
+    /**
+     * Returns the number of groups of the given type currently waiting in the pool.
+     *
+     * @param mvcType the type of the group
+     */
+    int getPooledGroupCount(@Nonnull String mvcType);
+
+    /**
+     * Destroys every pooled group and discards all pools. Invoked when the application shuts down.
+     */
+    void destroyPooledGroups();
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+/**
+ * Marks an MVC member that can be reused by another instance of its group.<p>
+ * Component groups configured with a {@code pool.capacity} are kept in a pool when destroyed,
+ * as long as all of their members implement this interface. A pooled group is handed out again
+ * by {@code createMVCGroup}, after its members have been filled with the new arguments and
+ * {@code mvcGroupInit} has been called once more; {@code initUI} is not called again.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public interface ResettableMVCMember {
+    /**
+     * Called when the group is released into the pool, instead of {@code mvcGroupDestroy}.
+     * Members must drop any state that belongs to the current use of the group.
+     * Views are reset inside the UI thread.
+     */
+    void mvcGroupReset();
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Defines how an {@code ExecutorService} managed by {@code griffon.core.ExecutorServiceManager} is created.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public enum ExecutorServiceStrategy {
+    /**
+     * A pool with a fixed, bounded number of threads
+     */
+    FIXED {
+        @Nonnull
+        @Override
+        public ExecutorService create(int size, @Nonnull ThreadFactory threadFactory) {
+            return Executors.newFixedThreadPool(size, threadFactory);
+        }
+    },
+
+    /**
+     * A work-stealing {@code ForkJoinPool} running tasks in FIFO order. The thread factory is not used
+     */
+    WORK_STEALING {
+        @Nonnull
+        @Override
+        public ExecutorService create(int size, @Nonnull ThreadFactory threadFactory) {
+            return new ForkJoinPool(size, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        }
+    },
+
+    /**
+     * A new virtual thread per task. Falls back to {@code FIXED} on JDKs without virtual threads.
+     * Neither the size nor the thread factory are used
+     */
+    VIRTUAL {
+        @Nonnull
+        @Override
+        public ExecutorService create(int size, @Nonnull ThreadFactory threadFactory) {
+            if (VIRTUAL_EXECUTOR_FACTORY != null) {
+                try {
+                    return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+                } catch (Exception e) {
+                    LOG.warn("Could not create a virtual thread executor. Falling back to " + FIXED, e);
+                }
+            } else {
+                LOG.warn("Virtual threads are not supported by this JVM. Falling back to {}", FIXED);
+            }
+            return FIXED.create(size, threadFactory);
+        }
+    };
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorServiceStrategy.class);
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = resolveVirtualExecutorFactory();
+
+    /**
+     * Creates a new {@code ExecutorService}.
+     *
+     * @param size          the number of threads or the parallelism level. Must be positive.
+     * @param threadFactory the factory used to create threads, if the strategy supports it.
+     *
+     * @return a new {@code ExecutorService}
+     */
+    @Nonnull
+    public abstract ExecutorService create(int size, @Nonnull ThreadFactory threadFactory);
+
+    /**
+     * Returns whether this JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    private static Method resolveVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
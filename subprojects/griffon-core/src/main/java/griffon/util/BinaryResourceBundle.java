@@ -0,0 +1,326 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ResourceBundle} backed by a precompiled binary file, as created by
+ * {@link #write(Map, OutputStream)}. Files are memory mapped when they reside in the file
+ * system; keys and values are decoded on first access.<p>
+ * Like {@code ExpandableResourceBundle}, the first segment of every dotted key resolves to a
+ * {@code Map} holding the nested entries; such maps are built lazily as well.
+ * <p>
+ * File layout (all numbers are big endian {@code int}s, strings are UTF-8):
+ * <pre>
+ * magic, version, entry count, table size
+ * table:   one slot per table size; entry index + 1, or 0 if empty
+ * entries: key hash, key offset, value offset (-1 for nested key prefixes)
+ * strings: byte length followed by the bytes, offsets are relative to the start of this section
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public class BinaryResourceBundle extends ResourceBundle {
+    public static final String SUFFIX = ".grb";
+
+    private static final int MAGIC = 0x47524231;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 12;
+    private static final int NO_VALUE = -1;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final int mask;
+    private final int entriesStart;
+    private final int stringsStart;
+    // racy caching is fine for keys as Strings are immutable; nested maps must be published safely
+    private final String[] keys;
+    private final AtomicReferenceArray<Object> values;
+    private volatile List<String> keyList;
+    private volatile Set<String> keySet;
+
+    public BinaryResourceBundle(@Nonnull URL url) throws IOException {
+        this(load(requireNonNull(url, "Argument 'url' must not be null")));
+    }
+
+    public BinaryResourceBundle(@Nonnull ByteBuffer buffer) throws IOException {
+        this.buffer = requireNonNull(buffer, "Argument 'buffer' must not be null").duplicate();
+        if (this.buffer.remaining() < HEADER_SIZE || this.buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary resource bundle");
+        }
+        if (this.buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported binary resource bundle version " + this.buffer.getInt(4));
+        }
+        this.entryCount = this.buffer.getInt(8);
+        int tableSize = this.buffer.getInt(12);
+        this.mask = tableSize - 1;
+        this.entriesStart = HEADER_SIZE + 4 * tableSize;
+        this.stringsStart = entriesStart + ENTRY_SIZE * entryCount;
+        this.keys = new String[entryCount];
+        this.values = new AtomicReferenceArray<>(entryCount);
+    }
+
+    @Nullable
+    @Override
+    protected Object handleGetObject(@Nonnull String key) {
+        requireNonBlank(key, "Argument 'key' must not be blank");
+        int index = indexOf(key);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean containsKey(@Nonnull String key) {
+        requireNonNull(key, "Argument 'key' must not be null");
+        return indexOf(key) >= 0 || (parent != null && parent.containsKey(key));
+    }
+
+    @Nonnull
+    @Override
+    public Enumeration<String> getKeys() {
+        return Collections.enumeration(keyList());
+    }
+
+    @Nonnull
+    @Override
+    protected Set<String> handleKeySet() {
+        Set<String> set = keySet;
+        if (set == null) {
+            set = Collections.unmodifiableSet(new LinkedHashSet<>(keyList()));
+            keySet = set;
+        }
+        return set;
+    }
+
+    private int indexOf(@Nonnull String key) {
+        int hash = key.hashCode();
+        int slot = spread(hash) & mask;
+        int entry;
+        while ((entry = buffer.getInt(HEADER_SIZE + 4 * slot)) != 0) {
+            int index = entry - 1;
+            if (buffer.getInt(entriesStart + ENTRY_SIZE * index) == hash && key.equals(keyAt(index))) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Nonnull
+    private String keyAt(int index) {
+        String key = keys[index];
+        if (key == null) {
+            key = readString(buffer.getInt(entriesStart + ENTRY_SIZE * index + 4));
+            keys[index] = key;
+        }
+        return key;
+    }
+
+    @Nonnull
+    private Object valueAt(int index) {
+        Object value = values.get(index);
+        if (value == null) {
+            int offset = buffer.getInt(entriesStart + ENTRY_SIZE * index + 8);
+            value = offset == NO_VALUE ? nestedValuesFor(keyAt(index)) : readString(offset);
+            // the first value published wins so that every caller sees the same nested map
+            if (!values.compareAndSet(index, null, value)) {
+                value = values.get(index);
+            }
+        }
+        return value;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> nestedValuesFor(@Nonnull String prefix) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        String start = prefix + ".";
+        for (int i = 0; i < entryCount; i++) {
+            String key = keyAt(i);
+            if (!key.startsWith(start) || buffer.getInt(entriesStart + ENTRY_SIZE * i + 8) == NO_VALUE) {
+                continue;
+            }
+            Map<String, Object> m = map;
+            String[] parts = key.substring(start.length()).split("\\.");
+            for (int p = 0; p < parts.length - 1; p++) {
+                Object child = m.get(parts[p]);
+                if (!(child instanceof Map)) {
+                    child = new LinkedHashMap<String, Object>();
+                    m.put(parts[p], child);
+                }
+                m = (Map<String, Object>) child;
+            }
+            m.put(parts[parts.length - 1], valueAt(i));
+        }
+        return map;
+    }
+
+    @Nonnull
+    private List<String> keyList() {
+        List<String> list = keyList;
+        if (list == null) {
+            String[] all = new String[entryCount];
+            for (int i = 0; i < entryCount; i++) {
+                all[i] = keyAt(i);
+            }
+            list = Collections.unmodifiableList(Arrays.asList(all));
+            keyList = list;
+        }
+        return list;
+    }
+
+    @Nonnull
+    private String readString(int offset) {
+        ByteBuffer b = buffer.duplicate();
+        b.position(stringsStart + offset);
+        int length = b.getInt();
+        byte[] bytes = new byte[length];
+        b.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Nonnull
+    private static ByteBuffer load(@Nonnull URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                File file = new File(url.toURI());
+                try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // fall back to reading the stream
+            }
+        }
+
+        try (InputStream in = url.openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+    }
+
+    /**
+     * Writes the given entries in binary resource bundle format.
+     *
+     * @param entries the entries to write. Keys must not be blank, values must not be {@code null}.
+     * @param output  the stream to write to. It is not closed by this method.
+     * @throws IOException if an error occurs while writing
+     */
+    public static void write(@Nonnull Map<String, String> entries, @Nonnull OutputStream output) throws IOException {
+        requireNonNull(entries, "Argument 'entries' must not be null");
+        requireNonNull(output, "Argument 'output' must not be null");
+
+        // sorted for reproducible output; the first segment of dotted keys is added as a nested prefix
+        Map<String, String> sorted = new TreeMap<>(entries);
+        for (String key : entries.keySet()) {
+            requireNonBlank(key, "Bundle keys must not be blank");
+            requireNonNull(entries.get(key), "Value for key '" + key + "' must not be null");
+            int dot = key.indexOf('.');
+            if (dot > 0 && !sorted.containsKey(key.substring(0, dot))) {
+                sorted.put(key.substring(0, dot), null);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(sorted.keySet());
+        int tableSize = Integer.highestOneBit(Math.max(keys.size(), 1) * 2 - 1) << 1;
+        int[] table = new int[tableSize];
+        int[] keyOffsets = new int[keys.size()];
+        int[] valueOffsets = new int[keys.size()];
+
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        DataOutputStream stringsOut = new DataOutputStream(strings);
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            keyOffsets[i] = stringsOut.size();
+            writeString(stringsOut, key);
+            String value = sorted.get(key);
+            if (value == null) {
+                valueOffsets[i] = NO_VALUE;
+            } else {
+                valueOffsets[i] = stringsOut.size();
+                writeString(stringsOut, value);
+            }
+
+            int slot = spread(key.hashCode()) & (tableSize - 1);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (tableSize - 1);
+            }
+            table[slot] = i + 1;
+        }
+
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(keys.size());
+        out.writeInt(tableSize);
+        for (int slot : table) {
+            out.writeInt(slot);
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            out.writeInt(keys.get(i).hashCode());
+            out.writeInt(keyOffsets[i]);
+            out.writeInt(valueOffsets[i]);
+        }
+        stringsOut.flush();
+        strings.writeTo(out);
+        out.flush();
+    }
+
+    private static void writeString(@Nonnull DataOutputStream out, @Nonnull String s) throws IOException {
+        byte[] bytes = s.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
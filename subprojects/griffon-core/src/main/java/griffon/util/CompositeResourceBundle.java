@@ -24,8 +24,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import static griffon.util.ExpandableResourceBundle.wrapResourceBundle;
 import static griffon.util.GriffonClassUtils.requireState;
@@ -53,15 +55,14 @@ public class CompositeResourceBundle extends ResourceBundle {
             this.bundles[i] = wrapResourceBundle(bundles[i]);
         }
 
+        Set<String> uniqueKeys = new LinkedHashSet<>();
         for (ResourceBundle bundle : this.bundles) {
             Enumeration<String> ks = bundle.getKeys();
             while (ks.hasMoreElements()) {
-                String key = ks.nextElement();
-                if (!keys.contains(key)) {
-                    keys.add(key);
-                }
+                uniqueKeys.add(ks.nextElement());
             }
         }
+        keys.addAll(uniqueKeys);
     }
 
     @Nullable
@@ -70,6 +71,9 @@ public class CompositeResourceBundle extends ResourceBundle {
 
         LOG.trace("Searching key={}", key);
         for (ResourceBundle bundle : bundles) {
+            if (!bundle.containsKey(key)) {
+                continue;
+            }
             try {
                 Object value = bundle.getObject(key);
                 LOG.trace("Bundle {}; key={}; value='{}'", bundle, key, value);
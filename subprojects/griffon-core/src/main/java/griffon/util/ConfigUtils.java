@@ -234,21 +234,7 @@ public final class ConfigUtils {
             return (T) config.get(key);
         }
 
-        String[] keys = key.split("\\.");
-        for (int i = 0; i < keys.length - 1; i++) {
-            if (config != null) {
-                Object node = config.get(keys[i]);
-                if (node instanceof Map) {
-                    config = (Map) node;
-                } else {
-                    return defaultValue;
-                }
-            } else {
-                return defaultValue;
-            }
-        }
-        if (config == null) return defaultValue;
-        Object value = config.get(keys[keys.length - 1]);
+        Object value = findNestedValue(config, key);
         return value != null ? (T) value : defaultValue;
     }
 
@@ -323,23 +309,7 @@ public final class ConfigUtils {
             return (T) config.get(key);
         }
 
-        String[] keys = key.split("\\.");
-        for (int i = 0; i < keys.length - 1; i++) {
-            if (config != null) {
-                Object node = config.get(keys[i]);
-                if (node instanceof Map) {
-                    config = (Map) node;
-                } else {
-                    throw missingResource(type, key);
-                }
-            } else {
-                throw missingResource(type, key);
-            }
-        }
-        if (config == null) {
-            throw missingResource(type, key);
-        }
-        Object value = config.get(keys[keys.length - 1]);
+        Object value = findNestedValue(config, key);
         if (value != null) {
             return (T) value;
         }
@@ -408,6 +378,31 @@ public final class ConfigUtils {
         throw missingResource(type, key);
     }
 
+    /**
+     * Walks nested maps one key segment at a time, without splitting the key up front.
+     * Trailing separators are ignored, just like {@code String.split} ignores trailing empty segments.
+     */
+    @Nullable
+    private static Object findNestedValue(@Nonnull Map<String, Object> config, @Nonnull String key) {
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '.') {
+            end--;
+        }
+
+        Map<?, ?> map = config;
+        int start = 0;
+        int dot;
+        while ((dot = key.indexOf('.', start)) != -1 && dot < end) {
+            Object node = map.get(key.substring(start, dot));
+            if (!(node instanceof Map)) {
+                return null;
+            }
+            map = (Map<?, ?>) node;
+            start = dot + 1;
+        }
+        return map.get(key.substring(start, end));
+    }
+
     private static MissingResourceException missingResource(String classname, String key) throws MissingResourceException {
         return new MissingResourceException("Can't find resource for bundle " + classname + ", key " + key, classname, key);
     }
@@ -37,7 +37,8 @@ public class ExpandableResourceBundle extends ResourceBundle {
     @Nonnull
     public static ResourceBundle wrapResourceBundle(@Nonnull ResourceBundle resourceBundle) {
         requireNonNull(resourceBundle, "Argument 'resourceBundle' must not be null");
-        if (!(resourceBundle instanceof ExpandableResourceBundle)) {
+        // binary bundles already expose nested entries for dotted keys
+        if (!(resourceBundle instanceof ExpandableResourceBundle) && !(resourceBundle instanceof BinaryResourceBundle)) {
             return new ExpandableResourceBundle(resourceBundle);
         }
         return resourceBundle;
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static griffon.util.ExpandableResourceBundle.wrapResourceBundle;
+import static griffon.util.GriffonClassUtils.requireState;
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable alternative to {@code CompositeResourceBundle} that merges all of its bundles
+ * into a single open addressing hash table when created. Entries from bundles that appear first
+ * take precedence, just like they do in {@code CompositeResourceBundle}, but lookups no longer
+ * have to visit every bundle.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public class IndexedResourceBundle extends ResourceBundle {
+    private final String[] orderedKeys;
+    private final String[] tableKeys;
+    private final Object[] tableValues;
+    private final int mask;
+    private final Set<String> keySet;
+
+    public IndexedResourceBundle(@Nonnull Collection<ResourceBundle> bundles) {
+        this(requireNonNull(bundles, "Argument 'bundles' must not be null").toArray(new ResourceBundle[bundles.size()]));
+    }
+
+    public IndexedResourceBundle(@Nonnull ResourceBundle[] bundles) {
+        requireNonNull(bundles, "Argument 'bundles' must not be null");
+        requireState(bundles.length > 0, "Argument 'bundles' must not be empty");
+
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (ResourceBundle bundle : bundles) {
+            ResourceBundle expanded = wrapResourceBundle(bundle);
+            for (Enumeration<String> ks = expanded.getKeys(); ks.hasMoreElements(); ) {
+                String key = ks.nextElement();
+                if (!entries.containsKey(key)) {
+                    Object value = expanded.getObject(key);
+                    if (value != null) {
+                        entries.put(key, value);
+                    }
+                }
+            }
+        }
+
+        // keep the load factor at or below 0.5 so that probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.tableKeys = new String[capacity];
+        this.tableValues = new Object[capacity];
+        this.orderedKeys = entries.keySet().toArray(new String[entries.size()]);
+        for (Map.Entry<String, Object> entry : entries.entrySet()) {
+            int index = hash(entry.getKey()) & mask;
+            while (tableKeys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            tableKeys[index] = entry.getKey();
+            tableValues[index] = entry.getValue();
+        }
+        this.keySet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(orderedKeys)));
+    }
+
+    @Nullable
+    @Override
+    protected Object handleGetObject(@Nonnull String key) {
+        requireNonBlank(key, "Argument 'key' must not be blank");
+        int index = indexOf(key);
+        return index < 0 ? null : tableValues[index];
+    }
+
+    @Override
+    public boolean containsKey(@Nonnull String key) {
+        requireNonNull(key, "Argument 'key' must not be null");
+        return indexOf(key) >= 0 || (parent != null && parent.containsKey(key));
+    }
+
+    @Nonnull
+    @Override
+    public Enumeration<String> getKeys() {
+        return Collections.enumeration(Arrays.asList(orderedKeys));
+    }
+
+    @Nonnull
+    @Override
+    protected Set<String> handleKeySet() {
+        return keySet;
+    }
+
+    private int indexOf(@Nonnull String key) {
+        int index = hash(key) & mask;
+        String candidate;
+        while ((candidate = tableKeys[index]) != null) {
+            if (candidate.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int hash(@Nonnull String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
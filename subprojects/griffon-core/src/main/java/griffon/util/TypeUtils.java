@@ -15,14 +15,11 @@
  */
 package griffon.util;
 
-import griffon.core.editors.ExtendedPropertyEditor;
-import griffon.core.editors.PropertyEditorResolver;
+import griffon.core.editors.ValueConversionService;
 import griffon.exceptions.GriffonException;
-import griffon.exceptions.TypeConversionException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -34,7 +31,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static griffon.util.GriffonNameUtils.isBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -227,27 +223,7 @@ public final class TypeUtils {
             }
         }
 
-        PropertyEditor targetEditor = resolveTargetPropertyEditor(targetType, format);
-        if (targetEditor != null) {
-            targetEditor.setValue(value);
-            return (T) targetEditor.getValue();
-        }
-
-        throw new TypeConversionException(value, targetType);
-    }
-
-    @Nullable
-    private static <T> PropertyEditor resolveTargetPropertyEditor(@Nonnull Class<T> targetType, @Nullable String format) {
-        PropertyEditor editor = doResolveTargetPropertyEditor(targetType);
-        if (editor instanceof ExtendedPropertyEditor && !isBlank(format)) {
-            ((ExtendedPropertyEditor) editor).setFormat(format);
-        }
-        return editor;
-    }
-
-    @Nullable
-    private static <T> PropertyEditor doResolveTargetPropertyEditor(@Nonnull Class<T> targetType) {
-        return PropertyEditorResolver.findEditor(targetType);
+        return ValueConversionService.convertValue(value, targetType, format);
     }
 
     public static boolean isBoolean(@Nonnull Class<?> type) {
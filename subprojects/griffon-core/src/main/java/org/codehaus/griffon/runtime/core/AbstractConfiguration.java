@@ -16,13 +16,12 @@
 package org.codehaus.griffon.runtime.core;
 
 import griffon.core.Configuration;
+import griffon.core.editors.ValueConversionService;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.Properties;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.CollectionUtils.toProperties;
 import static griffon.util.TypeUtils.castToBoolean;
 import static griffon.util.TypeUtils.castToDouble;
@@ -141,18 +140,8 @@ public abstract class AbstractConfiguration implements Configuration {
         return type.cast(value != null ? value : defaultValue);
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
-        if (value != null) {
-            if (type.isAssignableFrom(value.getClass())) {
-                return (T) value;
-            } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
-            }
-        }
-        return null;
+        return ValueConversionService.convertValue(value, type);
     }
 
     @Nullable
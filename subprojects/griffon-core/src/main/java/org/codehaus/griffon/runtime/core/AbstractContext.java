@@ -16,24 +16,11 @@
 package org.codehaus.griffon.runtime.core;
 
 import griffon.core.Context;
-import griffon.exceptions.FieldException;
-import griffon.inject.Contextual;
+import griffon.core.editors.ValueConversionService;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyDescriptor;
-import java.beans.PropertyEditor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
-import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
-import static griffon.util.AnnotationUtils.findAnnotation;
-import static griffon.util.AnnotationUtils.nameFor;
-import static griffon.util.GriffonClassUtils.getAllDeclaredFields;
-import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
-import static griffon.util.GriffonClassUtils.setFieldValue;
+
 import static griffon.util.TypeUtils.castToBoolean;
 import static griffon.util.TypeUtils.castToDouble;
 import static griffon.util.TypeUtils.castToFloat;
@@ -46,6 +33,13 @@ import static java.util.Objects.requireNonNull;
  * @since 2.2.0
  */
 public abstract class AbstractContext implements Context {
+    /**
+     * Returned by {@link #lookup(String)} and {@link #resolve(String)} when a key has no value.
+     *
+     * @since 2.9.0
+     */
+    protected static final Object ABSENT = new Object();
+
     protected Context parentContext;
 
     public AbstractContext(@Nullable Context parentContext) {
@@ -80,13 +74,8 @@ public abstract class AbstractContext implements Context {
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
-        if (hasKey(key)) {
-            return doGet(key);
-        } else if (parentContext != null) {
-            return parentContext.get(key);
-        } else {
-            return null;
-        }
+        Object value = resolve(key);
+        return value != ABSENT ? value : null;
     }
 
     @Override
@@ -96,17 +85,56 @@ public abstract class AbstractContext implements Context {
 
     @Override
     public boolean containsKey(@Nonnull String key) {
-        if (hasKey(key)) {
-            return true;
-        } else if (parentContext != null) {
-            return parentContext.containsKey(key);
-        }
-        return false;
+        return resolve(key) != ABSENT;
     }
 
     @Nullable
     protected abstract Object doGet(@Nonnull String key);
 
+    /**
+     * Returns the value of a key held by this context, without consulting the parent context.
+     * Subclasses should override this method with a single lookup of their storage.
+     *
+     * @param key the key to search
+     * @return the value of the key, or {@code ABSENT} if this context has no such key
+     * @since 2.9.0
+     */
+    @Nullable
+    protected Object lookup(@Nonnull String key) {
+        return hasKey(key) ? doGet(key) : ABSENT;
+    }
+
+    /**
+     * Returns the value of a key held by this context or any of its ancestors.
+     *
+     * @param key the key to search
+     * @return the value of the key, or {@code ABSENT} if no context in the chain has such key
+     * @since 2.9.0
+     */
+    @Nullable
+    protected Object resolve(@Nonnull String key) {
+        Object value = lookup(key);
+        return value != ABSENT ? value : resolveInParent(key);
+    }
+
+    /**
+     * Returns the value of a key held by the ancestors of this context.
+     *
+     * @param key the key to search
+     * @return the value of the key, or {@code ABSENT} if no ancestor has such key
+     * @since 2.9.0
+     */
+    @Nullable
+    protected Object resolveInParent(@Nonnull String key) {
+        Context parent = parentContext;
+        if (parent instanceof AbstractContext) {
+            return ((AbstractContext) parent).resolve(key);
+        } else if (parent != null && parent.containsKey(key)) {
+            return parent.get(key);
+        }
+        return ABSENT;
+    }
+
     @Override
     public boolean getAsBoolean(@Nonnull String key) {
         return getAsBoolean(key, false);
@@ -199,66 +227,15 @@ public abstract class AbstractContext implements Context {
         return type.cast(value != null ? value : defaultValue);
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
-        if (value != null) {
-            if (type.isAssignableFrom(value.getClass())) {
-                return (T) value;
-            } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
-            }
-        }
-        return null;
+        return ValueConversionService.convertValue(value, type);
     }
 
     @Nonnull
     @Override
     public <T> T injectMembers(@Nonnull T instance) {
         requireNonNull(instance, "Argument 'instance' must not be null");
-
-        for (PropertyDescriptor descriptor : getPropertyDescriptors(instance.getClass())) {
-            Method method = descriptor.getWriteMethod();
-            if (method != null && method.getAnnotation(Contextual.class) != null) {
-                String key = nameFor(method);
-                Object arg = get(key);
-
-                Nonnull nonNull = findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class);
-                if (arg == null && nonNull != null) {
-                    throw new IllegalStateException("Could not find an instance of type " +
-                        method.getParameterTypes()[0].getName() + " under key '" + key +
-                        "' to be injected on property '" + descriptor.getName() +
-                        "' (" + instance.getClass().getName() + "). Property does not accept null values.");
-                }
-
-                try {
-                    method.invoke(instance, arg);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new IllegalStateException(e);
-                }
-            }
-        }
-
-        for (Field field : getAllDeclaredFields(instance.getClass())) {
-            if (field.getAnnotation(Contextual.class) != null) {
-                String key = nameFor(field);
-                Object arg = get(key);
-                if (arg == null && field.getAnnotation(Nonnull.class) != null) {
-                    throw new IllegalStateException("Could not find an instance of type " +
-                        field.getType().getName() + " under key '" + key +
-                        "' to be injected on field '" + field.getName() +
-                        "' (" + instance.getClass().getName() + "). Field does not accept null values.");
-                }
-
-                try {
-                    setFieldValue(instance, field.getName(), arg);
-                } catch (FieldException e) {
-                    throw new IllegalStateException(e);
-                }
-            }
-        }
-
+        ContextualInjectionPlan.of(instance.getClass()).injectMembers(this, instance);
         return instance;
     }
 }
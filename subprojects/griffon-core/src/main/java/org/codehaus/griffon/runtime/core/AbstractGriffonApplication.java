@@ -35,12 +35,17 @@ import griffon.core.env.Lifecycle;
 import griffon.core.event.EventRouter;
 import griffon.core.i18n.MessageSource;
 import griffon.core.injection.Injector;
+import griffon.core.mvc.ExtendedMVCGroupManager;
+import griffon.core.mvc.MVCGroup;
 import griffon.core.mvc.MVCGroupManager;
+import griffon.core.mvc.PoolingMVCGroupManager;
 import griffon.core.resources.ResourceHandler;
 import griffon.core.resources.ResourceInjector;
 import griffon.core.resources.ResourceResolver;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
+import griffon.exceptions.GriffonException;
+import org.codehaus.griffon.runtime.core.injection.ApplicationServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,12 +53,16 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
-import static griffon.util.AnnotationUtils.named;
+import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.util.GriffonApplicationUtils.parseLocale;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -66,6 +75,7 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractGriffonApplication extends AbstractObservable implements GriffonApplication {
     public static final String[] EMPTY_ARGS = new String[0];
+    private static final String KEY_STARTUP_PARALLEL = "griffon.startup.parallel";
     private static final String ERROR_SHUTDOWN_HANDLER_NULL = "Argument 'shutdownHandler' must not be null";
     private static final Class<?>[] CTOR_ARGS = new Class<?>[]{String[].class};
     protected final Object[] lock = new Object[0];
@@ -77,6 +87,8 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
     private ApplicationPhase phase = ApplicationPhase.INITIALIZE;
     private Injector<?> injector;
 
+    private final ApplicationServices services = new ApplicationServices();
+
     public AbstractGriffonApplication() {
         this(EMPTY_ARGS);
     }
@@ -152,79 +164,79 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
     @Nonnull
     @Override
     public ApplicationClassLoader getApplicationClassLoader() {
-        return injector.getInstance(ApplicationClassLoader.class);
+        return services.getApplicationClassLoader(injector);
     }
 
     @Nonnull
     @Override
     public Context getContext() {
-        return injector.getInstance(Context.class, named("applicationContext"));
+        return services.getContext(injector);
     }
 
     @Nonnull
     @Override
     public Configuration getConfiguration() {
-        return injector.getInstance(Configuration.class);
+        return services.getConfiguration(injector);
     }
 
     @Nonnull
     @Override
     public UIThreadManager getUIThreadManager() {
-        return injector.getInstance(UIThreadManager.class);
+        return services.getUIThreadManager(injector);
     }
 
     @Nonnull
     @Override
     public EventRouter getEventRouter() {
-        return injector.getInstance(EventRouter.class, named("applicationEventRouter"));
+        return services.getEventRouter(injector);
     }
 
     @Nonnull
     @Override
     public ArtifactManager getArtifactManager() {
-        return injector.getInstance(ArtifactManager.class);
+        return services.getArtifactManager(injector);
     }
 
     @Nonnull
     @Override
     public ActionManager getActionManager() {
-        return injector.getInstance(ActionManager.class);
+        return services.getActionManager(injector);
     }
 
     @Nonnull
     @Override
     public AddonManager getAddonManager() {
-        return injector.getInstance(AddonManager.class);
+        return services.getAddonManager(injector);
     }
 
     @Nonnull
     @Override
     public MVCGroupManager getMvcGroupManager() {
-        return injector.getInstance(MVCGroupManager.class);
+        return services.getMvcGroupManager(injector);
     }
 
     @Nonnull
     @Override
     public MessageSource getMessageSource() {
-        return injector.getInstance(MessageSource.class, named("applicationMessageSource"));
+        return services.getMessageSource(injector);
     }
 
     @Nonnull
     @Override
     public ResourceResolver getResourceResolver() {
-        return injector.getInstance(ResourceResolver.class, named("applicationResourceResolver"));
+        return services.getResourceResolver(injector);
     }
 
     @Nonnull
     @Override
     public ResourceHandler getResourceHandler() {
-        return injector.getInstance(ResourceHandler.class);
+        return services.getResourceHandler(injector);
     }
 
     @Nonnull
     @Override
     public ResourceInjector getResourceInjector() {
-        return injector.getInstance(ResourceInjector.class, named("applicationResourceInjector"));
+        return services.getResourceInjector(injector);
     }
 
     @Nonnull
@@ -244,7 +256,7 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
     @Override
     @SuppressWarnings("unchecked")
     public <W> WindowManager<W> getWindowManager() {
-        return injector.getInstance(WindowManager.class);
+        return services.getWindowManager(injector);
     }
 
     protected ApplicationConfigurer getApplicationConfigurer() {
@@ -341,6 +353,9 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
         for (String id : mvcIds) {
             getMvcGroupManager().destroyMVCGroup(id);
         }
+        if (getMvcGroupManager() instanceof PoolingMVCGroupManager) {
+            ((PoolingMVCGroupManager) getMvcGroupManager()).destroyPooledGroups();
+        }
 
         // stage 4 - call shutdown script
         log.debug("Shutdown stage 4: execute Shutdown script");
@@ -359,26 +374,27 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
         setPhase(ApplicationPhase.STARTUP);
         event(ApplicationEvent.STARTUP_START, asList(this));
 
+        List<String> groupNames = new ArrayList<>();
         Object startupGroups = getConfiguration().get("application.startupGroups", null);
         if (startupGroups instanceof List) {
             log.info("Initializing all startup groups: {}", startupGroups);
 
             for (String groupName : (List<String>) startupGroups) {
-                getMvcGroupManager().createMVC(groupName.trim());
+                groupNames.add(groupName.trim());
             }
         } else if (startupGroups != null && startupGroups.getClass().isArray()) {
             Object[] groups = (Object[]) startupGroups;
             log.info("Initializing all startup groups: {}", Arrays.toString(groups));
 
             for (Object groupName : groups) {
-                getMvcGroupManager().createMVC(String.valueOf(groupName).trim());
+                groupNames.add(String.valueOf(groupName).trim());
             }
         } else if (startupGroups != null && startupGroups instanceof String) {
             String[] groups = ((String) startupGroups).split(",");
             log.info("Initializing all startup groups: {}", Arrays.toString(groups));
 
             for (String groupName : groups) {
-                getMvcGroupManager().createMVC(groupName.trim());
+                groupNames.add(groupName.trim());
             }
         }
 
@@ -391,16 +407,80 @@ public abstract class AbstractGriffonApplication extends AbstractObservable impl
             Map<String, Map<String, Object>> mvcGroups = e.getValue().getMvcGroups();
             for (String groupName : groups) {
                 if (mvcGroups.containsKey(groupName)) {
-                    getMvcGroupManager().createMVC(groupName.trim());
+                    groupNames.add(groupName.trim());
                 }
             }
         }
 
+        createStartupGroups(groupNames);
+
         getApplicationConfigurer().runLifecycleHandler(Lifecycle.STARTUP);
 
         event(ApplicationEvent.STARTUP_END, asList(this));
     }
 
+    /**
+     * Creates all startup groups. Groups are built concurrently when {@code griffon.startup.parallel}
+     * is enabled, the {@code MVCGroupManager} is an {@code ExtendedMVCGroupManager} and startup is not
+     * running inside the UI thread, otherwise they are built one after the other in the given order.
+     *
+     * @param groupNames the types of the groups to be created
+     * @since 2.9.0
+     */
+    protected void createStartupGroups(@Nonnull List<String> groupNames) {
+        if (groupNames.size() < 2 || !getConfiguration().getAsBoolean(KEY_STARTUP_PARALLEL, false) ||
+            !(getMvcGroupManager() instanceof ExtendedMVCGroupManager) || getUIThreadManager().isUIThread()) {
+            for (String groupName : groupNames) {
+                getMvcGroupManager().createMVC(groupName);
+            }
+            return;
+        }
+
+        ExtendedMVCGroupManager mvcGroupManager = (ExtendedMVCGroupManager) getMvcGroupManager();
+        List<Future<MVCGroup>> futures = new ArrayList<>(groupNames.size());
+        for (String groupName : groupNames) {
+            futures.add(mvcGroupManager.createMVCGroupAsync(groupName));
+        }
+
+        List<MVCGroup> groups = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (Future<MVCGroup> future : futures) {
+            // once a group fails the remaining ones are cancelled; those already running are awaited and destroyed
+            if (failure != null && future.cancel(false)) {
+                continue;
+            }
+            try {
+                groups.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new GriffonException("Interrupted while creating startup groups", e);
+                }
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (CancellationException e) {
+                // ignore
+            }
+        }
+
+        if (failure != null) {
+            Collections.reverse(groups);
+            for (MVCGroup group : groups) {
+                try {
+                    group.destroy();
+                } catch (RuntimeException e) {
+                    log.warn("Could not destroy startup group {}", group.getMvcId(), sanitize(e));
+                }
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw new GriffonException("An error occurred while creating startup groups", failure);
+        }
+    }
+
     protected void event(@Nonnull ApplicationEvent event, @Nullable List<?> args) {
         getEventRouter().publishEvent(event.getName(), args);
     }
@@ -16,15 +16,14 @@
 package org.codehaus.griffon.runtime.core;
 
 import griffon.core.Configuration;
+import griffon.core.editors.ValueConversionService;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.CollectionUtils.toProperties;
 import static griffon.util.TypeUtils.castToBoolean;
 import static griffon.util.TypeUtils.castToDouble;
@@ -178,17 +177,7 @@ public class ConfigurationDecorator implements Configuration {
         return delegate.asResourceBundle();
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
-        if (value != null) {
-            if (type.isAssignableFrom(value.getClass())) {
-                return (T) value;
-            } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
-            }
-        }
-        return null;
+        return ValueConversionService.convertValue(value, type);
     }
 }
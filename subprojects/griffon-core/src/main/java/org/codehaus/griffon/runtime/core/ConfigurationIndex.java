@@ -0,0 +1,124 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable index of every dotted path found in a {@code ResourceBundle} or {@code Map}.<p>
+ * Both the keys of the bundle and the paths leading into nested {@code Map} values are
+ * resolved once, when the index is created, so that lookups are a single hash table access
+ * that never splits keys nor throws on a miss. Keys of the bundle take precedence over
+ * nested paths with the same name.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class ConfigurationIndex {
+    private final Map<String, Object> entries;
+    private final Map<String, Object> flatMap;
+
+    public ConfigurationIndex(@Nonnull ResourceBundle resourceBundle) {
+        requireNonNull(resourceBundle, "Argument 'resourceBundle' must not be null");
+        Map<String, Object> flat = new LinkedHashMap<>();
+        for (Enumeration<String> keys = resourceBundle.getKeys(); keys.hasMoreElements(); ) {
+            String key = keys.nextElement();
+            try {
+                flat.put(key, resourceBundle.getObject(key));
+            } catch (MissingResourceException mre) {
+                // key is listed but has no value
+            }
+        }
+
+        this.flatMap = unmodifiableMap(flat);
+        this.entries = index(flat);
+    }
+
+    public ConfigurationIndex(@Nonnull Map<String, Object> map) {
+        requireNonNull(map, "Argument 'map' must not be null");
+        this.flatMap = unmodifiableMap(new LinkedHashMap<>(map));
+        this.entries = index(flatMap);
+    }
+
+    /**
+     * Returns the value of a key or dotted path.
+     *
+     * @param key the key to search
+     * @return the value, or {@code null} if there is no such key
+     */
+    @Nullable
+    public Object get(@Nonnull String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns whether the given key or dotted path has a value.
+     *
+     * @param key the key to search
+     * @return {@code true} if the key has a value
+     */
+    public boolean contains(@Nonnull String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns the keys of the bundle and their values, without nested paths.
+     *
+     * @return an unmodifiable map
+     */
+    @Nonnull
+    public Map<String, Object> asFlatMap() {
+        return flatMap;
+    }
+
+    @Nonnull
+    private static Map<String, Object> index(@Nonnull Map<String, Object> flat) {
+        Map<String, Object> all = new HashMap<>(flat.size() * 2);
+        all.putAll(flat);
+        for (Map.Entry<String, Object> entry : flat.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                indexNestedPaths(entry.getKey(), (Map<?, ?>) entry.getValue(), all);
+            }
+        }
+        return unmodifiableMap(all);
+    }
+
+    private static void indexNestedPaths(@Nonnull String prefix, @Nonnull Map<?, ?> map, @Nonnull Map<String, Object> index) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (entry.getKey() == null || value == null) {
+                continue;
+            }
+            String path = prefix + "." + entry.getKey();
+            if (!index.containsKey(path)) {
+                index.put(path, value);
+            }
+            if (value instanceof Map) {
+                indexNestedPaths(path, (Map<?, ?>) value, index);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.core.Context;
+import griffon.exceptions.FieldException;
+import griffon.inject.Contextual;
+import griffon.util.TypeUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
+import static griffon.util.AnnotationUtils.findAnnotation;
+import static griffon.util.AnnotationUtils.nameFor;
+import static griffon.util.GriffonClassUtils.getAllDeclaredFields;
+import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
+
+/**
+ * The {@code @Contextual} properties and fields of a class, discovered once per class.<p>
+ * Each injection point knows its key, whether it accepts {@code null} and how to set its value,
+ * so injecting members into further instances of the same class needs no reflective discovery.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+final class ContextualInjectionPlan {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ContextualInjectionPlan> PLANS = new ClassValue<ContextualInjectionPlan>() {
+        @Override
+        protected ContextualInjectionPlan computeValue(Class<?> type) {
+            return new ContextualInjectionPlan(type);
+        }
+    };
+
+    private final InjectionPoint[] injectionPoints;
+
+    private ContextualInjectionPlan(@Nonnull Class<?> type) {
+        List<InjectionPoint> points = new ArrayList<>();
+
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(type)) {
+            Method method = descriptor.getWriteMethod();
+            if (method != null && method.getAnnotation(Contextual.class) != null) {
+                points.add(new PropertyInjectionPoint(descriptor, method));
+            }
+        }
+
+        for (Field field : getAllDeclaredFields(type)) {
+            if (field.getAnnotation(Contextual.class) != null) {
+                points.add(new FieldInjectionPoint(field, targetField(type, field.getName())));
+            }
+        }
+
+        injectionPoints = points.toArray(new InjectionPoint[points.size()]);
+    }
+
+    @Nonnull
+    static ContextualInjectionPlan of(@Nonnull Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    void injectMembers(@Nonnull Context context, @Nonnull Object instance) {
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            Object value = context.get(injectionPoint.key);
+            if (value == null && injectionPoint.nonNull) {
+                throw new IllegalStateException("Could not find an instance of type " +
+                    injectionPoint.type.getName() + " under key '" + injectionPoint.key +
+                    "' to be injected on " + injectionPoint.kind + " '" + injectionPoint.name +
+                    "' (" + instance.getClass().getName() + "). " + injectionPoint.label + " does not accept null values.");
+            }
+            injectionPoint.inject(instance, value);
+        }
+    }
+
+    @Nonnull
+    private static Field targetField(@Nonnull Class<?> type, @Nonnull String name) {
+        // values are set on the first field with a matching name, as GriffonClassUtils.setField does
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            }
+        }
+        throw new IllegalStateException("Field " + name + " not found in " + type.getName());
+    }
+
+    private abstract static class InjectionPoint {
+        private final String key;
+        private final boolean nonNull;
+        private final Class<?> type;
+        private final String name;
+        private final String kind;
+        private final String label;
+
+        private InjectionPoint(@Nonnull String key, boolean nonNull, @Nonnull Class<?> type, @Nonnull String name, @Nonnull String kind, @Nonnull String label) {
+            this.key = key;
+            this.nonNull = nonNull;
+            this.type = type;
+            this.name = name;
+            this.kind = kind;
+            this.label = label;
+        }
+
+        protected abstract void inject(@Nonnull Object instance, @Nullable Object value);
+    }
+
+    private static final class PropertyInjectionPoint extends InjectionPoint {
+        private final Method method;
+        private final MethodHandle setter;
+        private final Class<?> argumentType;
+        private final boolean primitive;
+
+        private PropertyInjectionPoint(@Nonnull PropertyDescriptor descriptor, @Nonnull Method method) {
+            super(nameFor(method),
+                findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) != null,
+                method.getParameterTypes()[0],
+                descriptor.getName(),
+                "property",
+                "Property");
+            this.method = method;
+            this.primitive = method.getParameterTypes()[0].isPrimitive();
+            this.argumentType = boxed(method.getParameterTypes()[0]);
+            MethodHandle handle = null;
+            try {
+                handle = MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fallback to reflective invocation
+            }
+            this.setter = handle;
+        }
+
+        @Override
+        protected void inject(@Nonnull Object instance, @Nullable Object value) {
+            if (setter != null && accepts(value)) {
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(new InvocationTargetException(t));
+                }
+                return;
+            }
+
+            // mismatched arguments are reported by Method.invoke
+            try {
+                method.invoke(instance, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private boolean accepts(@Nullable Object value) {
+            return value == null ? !primitive : argumentType.isInstance(value);
+        }
+
+        @Nonnull
+        private static Class<?> boxed(@Nonnull Class<?> type) {
+            return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+        }
+    }
+
+    private static final class FieldInjectionPoint extends InjectionPoint {
+        private final Field field;
+
+        private FieldInjectionPoint(@Nonnull Field annotated, @Nonnull Field field) {
+            super(nameFor(annotated),
+                annotated.getAnnotation(Nonnull.class) != null,
+                annotated.getType(),
+                annotated.getName(),
+                "field",
+                "Field");
+            field.setAccessible(true);
+            this.field = field;
+        }
+
+        @Override
+        protected void inject(@Nonnull Object instance, @Nullable Object value) {
+            Class<?> fieldType = field.getType();
+            if (value != null && !fieldType.isAssignableFrom(value.getClass())) {
+                value = TypeUtils.convertValue(fieldType, value);
+            }
+            try {
+                field.set(instance, value);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new IllegalStateException(new FieldException(instance, field.getName(), value, e));
+            }
+        }
+    }
+}
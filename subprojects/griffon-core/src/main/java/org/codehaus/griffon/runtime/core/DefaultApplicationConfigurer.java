@@ -18,6 +18,9 @@ package org.codehaus.griffon.runtime.core;
 import griffon.core.ApplicationClassLoader;
 import griffon.core.ApplicationConfigurer;
 import griffon.core.ApplicationEvent;
+import griffon.core.ConfigurableExecutorServiceManager;
+import griffon.core.Configuration;
+import griffon.core.ExecutorServiceManager;
 import griffon.core.GriffonApplication;
 import griffon.core.LifecycleHandler;
 import griffon.core.PlatformHandler;
@@ -30,11 +33,17 @@ import griffon.core.controller.ActionInterceptor;
 import griffon.core.editors.PropertyEditorResolver;
 import griffon.core.env.Lifecycle;
 import griffon.core.event.EventHandler;
+import griffon.core.event.EventRouter;
+import griffon.core.event.ExtendedEventRouter;
+import griffon.core.event.OverflowPolicy;
 import griffon.core.injection.Injector;
 import griffon.core.mvc.MVCGroupConfiguration;
 import griffon.core.resources.ResourceInjector;
+import griffon.core.threading.ExecutorServiceStrategy;
 import griffon.util.ServiceLoaderUtils;
+import org.codehaus.griffon.runtime.core.controller.AbstractActionManager;
 import org.codehaus.griffon.runtime.core.controller.NoopActionManager;
+import org.codehaus.griffon.runtime.core.event.DefaultEventRouter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +76,14 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
     private static final String ERROR_APPLICATION_NULL = "Argument 'application' must not be null";
     private static final String KEY_APP_LIFECYCLE_HANDLER_DISABLE = "application.lifecycle.handler.disable";
     private static final String KEY_GRIFFON_CONTROLLER_ACTION_HANDLER_ORDER = "griffon.controller.action.handler.order";
+    private static final String KEY_GRIFFON_EVENT_ASYNC_ORDERED = "griffon.event.async.ordered";
+    private static final String KEY_GRIFFON_EVENT_ASYNC_CAPACITY = "griffon.event.async.capacity";
+    private static final String KEY_GRIFFON_EVENT_ASYNC_OVERFLOW = "griffon.event.async.overflow";
+    private static final String KEY_GRIFFON_EVENT_COALESCING_WINDOW = "griffon.event.coalescing.window";
+    private static final String KEY_GRIFFON_EXECUTOR_PREFIX = "griffon.executor.";
+    private static final String KEY_STRATEGY = "strategy";
+    private static final String KEY_SIZE = "size";
+    private static final int DEFAULT_EVENT_ASYNC_CAPACITY = 1024;
 
     private final Object lock = new Object();
     private final GriffonApplication application;
@@ -111,6 +128,8 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
     }
 
     protected void doInitialize() {
+        initializeExecutorServices();
+        initializeEventRouter();
         initializeEventHandler();
 
         event(ApplicationEvent.BOOTSTRAP_START, asList(application));
@@ -127,6 +146,59 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
         event(ApplicationEvent.BOOTSTRAP_END, asList(application));
     }
 
+    protected void initializeExecutorServices() {
+        Configuration configuration = application.getConfiguration();
+        ExecutorServiceManager manager = application.getInjector().getInstance(ExecutorServiceManager.class);
+        if (!(manager instanceof ConfigurableExecutorServiceManager)) {
+            LOG.debug("{} does not support executor settings", manager.getClass().getName());
+            return;
+        }
+        ConfigurableExecutorServiceManager executorServiceManager = (ConfigurableExecutorServiceManager) manager;
+
+        if (configuration.containsKey(KEY_GRIFFON_EXECUTOR_PREFIX + KEY_STRATEGY)) {
+            ExecutorServiceStrategy strategy = resolveExecutorServiceStrategy(configuration, KEY_GRIFFON_EXECUTOR_PREFIX + KEY_STRATEGY);
+            int size = configuration.getAsInt(KEY_GRIFFON_EXECUTOR_PREFIX + KEY_SIZE, 0);
+            LOG.debug("Creating executors with strategy {} and size {}", strategy, size);
+            executorServiceManager.configureExecutorServices(strategy, size);
+        }
+
+        // per pool settings, i.e, griffon.executor.event.strategy
+        for (String key : configuration.asFlatMap().keySet()) {
+            if (!key.startsWith(KEY_GRIFFON_EXECUTOR_PREFIX) || !key.endsWith("." + KEY_STRATEGY) ||
+                key.length() <= KEY_GRIFFON_EXECUTOR_PREFIX.length() + KEY_STRATEGY.length() + 1) {
+                continue;
+            }
+            String name = key.substring(KEY_GRIFFON_EXECUTOR_PREFIX.length(), key.length() - KEY_STRATEGY.length() - 1);
+            ExecutorServiceStrategy strategy = resolveExecutorServiceStrategy(configuration, key);
+            int size = configuration.getAsInt(KEY_GRIFFON_EXECUTOR_PREFIX + name + "." + KEY_SIZE, 0);
+            LOG.debug("Creating '{}' executors with strategy {} and size {}", name, strategy, size);
+            executorServiceManager.configureExecutorService(name, strategy, size);
+        }
+    }
+
+    @Nonnull
+    private static ExecutorServiceStrategy resolveExecutorServiceStrategy(@Nonnull Configuration configuration, @Nonnull String key) {
+        return ExecutorServiceStrategy.valueOf(configuration.getAsString(key).trim().toUpperCase());
+    }
+
+    protected void initializeEventRouter() {
+        Configuration configuration = application.getConfiguration();
+        EventRouter eventRouter = application.getEventRouter();
+        if (configuration.containsKey(KEY_GRIFFON_EVENT_COALESCING_WINDOW) && eventRouter instanceof ExtendedEventRouter) {
+            ((ExtendedEventRouter) eventRouter).setEventCoalescingWindow(configuration.getAsLong(KEY_GRIFFON_EVENT_COALESCING_WINDOW));
+        }
+
+        if (!configuration.getAsBoolean(KEY_GRIFFON_EVENT_ASYNC_ORDERED, false) || !(eventRouter instanceof DefaultEventRouter)) {
+            return;
+        }
+
+        int capacity = configuration.getAsInt(KEY_GRIFFON_EVENT_ASYNC_CAPACITY, DEFAULT_EVENT_ASYNC_CAPACITY);
+        String overflow = configuration.getAsString(KEY_GRIFFON_EVENT_ASYNC_OVERFLOW, OverflowPolicy.BLOCK.name());
+        OverflowPolicy overflowPolicy = OverflowPolicy.valueOf(overflow.trim().toUpperCase());
+        LOG.debug("Delivering asynchronous events in order with capacity {} and overflow policy {}", capacity, overflowPolicy);
+        ((DefaultEventRouter) eventRouter).enableOrderedAsyncDelivery(capacity, overflowPolicy);
+    }
+
     protected void initializeEventHandler() {
         Collection<EventHandler> handlerInstances =  application.getInjector().getInstances(EventHandler.class);
         Map<String, EventHandler> sortedHandlers = sortByDependencies(handlerInstances, "EventHandler", "handler");
@@ -246,6 +318,17 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
             }
         });
 
+        if (application.getActionManager() instanceof AbstractActionManager) {
+            application.getEventRouter().addEventListener(ApplicationEvent.DESTROY_INSTANCE.getName(), new RunnableWithArgs() {
+                public void run(@Nullable Object... args) {
+                    Class<?> klass = (Class) args[0];
+                    if (GriffonController.class.isAssignableFrom(klass)) {
+                        ((AbstractActionManager) application.getActionManager()).removeActions((GriffonController) args[1]);
+                    }
+                }
+            });
+        }
+
         Injector<?> injector = application.getInjector();
         Collection<ActionHandler> handlerInstances = injector.getInstances(ActionHandler.class);
         List<String> handlerOrder = application.getConfiguration().get(KEY_GRIFFON_CONTROLLER_ACTION_HANDLER_ORDER, Collections.<String>emptyList());
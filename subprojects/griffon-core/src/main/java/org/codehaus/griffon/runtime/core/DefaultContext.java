@@ -19,6 +19,7 @@ import griffon.core.Context;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -49,6 +50,15 @@ public class DefaultContext extends AbstractContext {
         return attributes.get(key);
     }
 
+    @Nullable
+    @Override
+    protected Object lookup(@Nonnull String key) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        // attributes never hold null values
+        Object value = attributes.get(key);
+        return value != null ? value : ABSENT;
+    }
+
     @Override
     public boolean hasKey(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
@@ -97,9 +107,19 @@ public class DefaultContext extends AbstractContext {
     @Override
     public Set<String> keySet() {
         Set<String> keys = new HashSet<>(attributes.keySet());
-        if (parentContext != null) {
-            keys.addAll(parentContext.keySet());
-        }
+        keys.addAll(parentKeySet());
         return keys;
     }
+
+    /**
+     * Returns the keys held by the ancestors of this context.
+     *
+     * @return the keys of the parent context, or an empty set if there is no parent
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Set<String> parentKeySet() {
+        Context parent = parentContext;
+        return parent != null ? parent.keySet() : Collections.<String>emptySet();
+    }
 }
@@ -15,23 +15,40 @@
  */
 package org.codehaus.griffon.runtime.core;
 
-import griffon.core.ExecutorServiceManager;
+import griffon.core.ConfigurableExecutorServiceManager;
+import griffon.core.threading.ExecutorServiceStrategy;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
+import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class DefaultExecutorServiceManager implements ExecutorServiceManager {
+public class DefaultExecutorServiceManager implements ConfigurableExecutorServiceManager {
+    private static final String ERROR_NAME_BLANK = "Argument 'name' must not be blank";
+    private static final String ERROR_STRATEGY_NULL = "Argument 'strategy' must not be null";
+
     private final Set<ExecutorService> executorServices = new LinkedHashSet<>();
+    private final ConcurrentMap<String, Settings> settingsByName = new ConcurrentHashMap<>();
+    private volatile Settings defaultSettings = new Settings(ExecutorServiceStrategy.FIXED, 0);
 
     @Nonnull
     @Override
@@ -63,4 +80,121 @@ public class DefaultExecutorServiceManager implements ExecutorServiceManager {
             }
         }
     }
+
+    @Nonnull
+    @Override
+    public ExecutorService newExecutorService(@Nonnull String name, @Nonnull ThreadFactory threadFactory) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        requireNonNull(threadFactory, "Argument 'threadFactory' must not be null");
+        return add(new DeferredExecutorService(name, threadFactory));
+    }
+
+    @Override
+    public void configureExecutorServices(@Nonnull ExecutorServiceStrategy strategy, int size) {
+        requireNonNull(strategy, ERROR_STRATEGY_NULL);
+        defaultSettings = new Settings(strategy, size);
+    }
+
+    @Override
+    public void configureExecutorService(@Nonnull String name, @Nonnull ExecutorServiceStrategy strategy, int size) {
+        requireNonBlank(name, ERROR_NAME_BLANK);
+        requireNonNull(strategy, ERROR_STRATEGY_NULL);
+        settingsByName.put(name, new Settings(strategy, size));
+    }
+
+    @Nonnull
+    protected ExecutorService createExecutorService(@Nonnull String name, @Nonnull ThreadFactory threadFactory) {
+        Settings settings = settingsByName.get(name);
+        if (settings == null) {
+            settings = defaultSettings;
+        }
+        int size = settings.size > 0 ? settings.size : Runtime.getRuntime().availableProcessors();
+        return settings.strategy.create(size, threadFactory);
+    }
+
+    private static final class Settings {
+        private final ExecutorServiceStrategy strategy;
+        private final int size;
+
+        private Settings(@Nonnull ExecutorServiceStrategy strategy, int size) {
+            this.strategy = strategy;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Creates the actual executor when the first task is submitted.
+     */
+    private final class DeferredExecutorService extends AbstractExecutorService {
+        private final String name;
+        private final ThreadFactory threadFactory;
+        private volatile ExecutorService delegate;
+        @GuardedBy("this")
+        private boolean shutdown;
+
+        private DeferredExecutorService(@Nonnull String name, @Nonnull ThreadFactory threadFactory) {
+            this.name = name;
+            this.threadFactory = threadFactory;
+        }
+
+        @Nonnull
+        private ExecutorService delegate() {
+            ExecutorService executorService = delegate;
+            if (executorService == null) {
+                synchronized (this) {
+                    executorService = delegate;
+                    if (executorService == null) {
+                        if (shutdown) {
+                            throw new RejectedExecutionException("ExecutorService '" + name + "' has been shut down");
+                        }
+                        executorService = createExecutorService(name, threadFactory);
+                        delegate = executorService;
+                    }
+                }
+            }
+            return executorService;
+        }
+
+        @Override
+        public void execute(@Nonnull Runnable command) {
+            delegate().execute(command);
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+            if (delegate != null) {
+                delegate.shutdown();
+            }
+        }
+
+        @Nonnull
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            shutdown = true;
+            return delegate != null ? delegate.shutdownNow() : Collections.<Runnable>emptyList();
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return delegate != null ? delegate.isShutdown() : shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return delegate != null ? delegate.isTerminated() : shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+            ExecutorService executorService;
+            synchronized (this) {
+                executorService = delegate;
+                if (executorService == null) {
+                    return shutdown;
+                }
+            }
+            return executorService.awaitTermination(timeout, unit);
+        }
+    }
 }
@@ -21,31 +21,41 @@ import griffon.util.TypeUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * An {@code ObservableContext} that remembers the values it resolves from its ancestors.<p>
+ * When every ancestor is a {@code DefaultObservableContext} all changes made to the chain are
+ * observable, so keys resolved from ancestors are cached along with the version of the chain
+ * they were read from. Any change to an ancestor bumps the version, which invalidates every
+ * entry cached before it. Contexts with any other kind of ancestor do not cache.
+ *
  * @author Andres Almiray
  * @since 2.5.0
  */
 public class DefaultObservableContext extends DefaultContext implements ObservableContext {
     private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+    private static final int CAPACITY = 1024;
     private final List<ContextEventListener> listeners = new CopyOnWriteArrayList<>();
 
-    private final ContextEventListener parentListener = new ContextEventListener() {
-        @Override
-        public void contextChanged(@Nonnull ContextEvent event) {
-            String key = event.getKey();
-            if (!hasKey(key)) {
-                fireContextEvent(event.getType(), key, event.getOldValue(), event.getNewValue());
-            }
-        }
-    };
+    private final ParentContextListener parentListener = new ParentContextListener();
+    private final boolean cacheable;
+    private final AtomicLong ancestorVersion = new AtomicLong();
+    private final ConcurrentMap<String, Resolved> ancestorValues = new ConcurrentHashMap<>();
+    private volatile Resolved ancestorKeys;
 
     public DefaultObservableContext() {
         super();
+        cacheable = true;
     }
 
     public DefaultObservableContext(@Nonnull Context parentContext) {
@@ -54,6 +64,8 @@ public class DefaultObservableContext extends DefaultContext implements Observab
             ObservableContext observableParent = (ObservableContext) parentContext;
             observableParent.addContextEventListener(parentListener);
         }
+        cacheable = parentContext == null ||
+            (parentContext instanceof DefaultObservableContext && ((DefaultObservableContext) parentContext).cacheable);
     }
 
     @Override
@@ -168,10 +180,62 @@ public class DefaultObservableContext extends DefaultContext implements Observab
             ObservableContext observableParent = (ObservableContext) getParentContext();
             observableParent.removeContextEventListener(parentListener);
         }
+        // values are discarded without events; children must not keep them
+        ancestorsChanged();
+        for (ContextEventListener listener : listeners) {
+            if (listener instanceof ParentContextListener) {
+                ((ParentContextListener) listener).ancestorsChanged();
+            }
+        }
         listeners.clear();
         super.destroy();
     }
 
+    @Nullable
+    @Override
+    protected Object resolveInParent(@Nonnull String key) {
+        if (!cacheable || parentContext == null) {
+            return super.resolveInParent(key);
+        }
+
+        long version = ancestorVersion.get();
+        Resolved resolved = ancestorValues.get(key);
+        if (resolved != null && resolved.version == version) {
+            return resolved.value;
+        }
+
+        Object value = super.resolveInParent(key);
+        if (ancestorValues.size() >= CAPACITY) {
+            ancestorValues.clear();
+        }
+        // entries stored after a concurrent change carry an outdated version and are never read
+        ancestorValues.put(key, new Resolved(version, value));
+        return value;
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Set<String> parentKeySet() {
+        if (!cacheable || parentContext == null) {
+            return super.parentKeySet();
+        }
+
+        long version = ancestorVersion.get();
+        Resolved resolved = ancestorKeys;
+        if (resolved == null || resolved.version != version) {
+            resolved = new Resolved(version, unmodifiableSet(new HashSet<>(super.parentKeySet())));
+            ancestorKeys = resolved;
+        }
+        return (Set<String>) resolved.value;
+    }
+
+    private void ancestorsChanged() {
+        ancestorVersion.incrementAndGet();
+        ancestorValues.clear();
+        ancestorKeys = null;
+    }
+
     protected void fireContextEvent(@Nonnull ContextEvent.Type type, @Nonnull String key, @Nullable Object oldValue, @Nullable Object newValue) {
         fireContextEvent(new ContextEvent(type, key, oldValue, newValue));
     }
@@ -181,4 +245,34 @@ public class DefaultObservableContext extends DefaultContext implements Observab
             listener.contextChanged(event);
         }
     }
+
+    private final class ParentContextListener implements ContextEventListener {
+        @Override
+        public void contextChanged(@Nonnull ContextEvent event) {
+            ancestorsChanged();
+            String key = event.getKey();
+            if (!hasKey(key)) {
+                fireContextEvent(event.getType(), key, event.getOldValue(), event.getNewValue());
+            }
+        }
+
+        private void ancestorsChanged() {
+            DefaultObservableContext.this.ancestorsChanged();
+            for (ContextEventListener listener : listeners) {
+                if (listener instanceof ParentContextListener) {
+                    ((ParentContextListener) listener).ancestorsChanged();
+                }
+            }
+        }
+    }
+
+    private static final class Resolved {
+        private final long version;
+        private final Object value;
+
+        private Resolved(long version, @Nullable Object value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
 }
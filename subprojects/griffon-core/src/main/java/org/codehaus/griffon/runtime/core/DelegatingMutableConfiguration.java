@@ -16,36 +16,50 @@
 package org.codehaus.griffon.runtime.core;
 
 import griffon.core.Configuration;
-import griffon.core.MutableConfiguration;
+import griffon.core.ConfigurationChangeListener;
+import griffon.core.ObservableMutableConfiguration;
 import griffon.util.AbstractMapResourceBundle;
 import griffon.util.CompositeResourceBundle;
-import griffon.util.ConfigUtils;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
 
-import static griffon.util.ConfigUtils.getConfigValue;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * An {@code ObservableMutableConfiguration} that overlays changes on top of another {@code Configuration}.<p>
+ * Changes are kept in immutable snapshots. Every write builds a new snapshot and publishes it
+ * atomically, so reads never lock and always observe a consistent state. Each snapshot indexes
+ * its values up front, so that lookups never throw on a miss, and computes the merged flat map
+ * at most once. Listeners are notified after a write has been published, outside of any lock,
+ * and only about keys whose values actually changed.
+ *
  * @author Andres Almiray
  * @since 2.2.0
  */
-public class DelegatingMutableConfiguration extends ConfigurationDecorator implements MutableConfiguration {
+public class DelegatingMutableConfiguration extends ConfigurationDecorator implements ObservableMutableConfiguration {
     private static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
+    private static final String ERROR_LISTENER_NULL = "Argument 'listener' must not be null";
+    private static final Registration[] NO_REGISTRATIONS = new Registration[0];
 
-    private final Map<String, Object> mutableKeyValues = new LinkedHashMap<>();
-    private final Set<String> removedKeys = new LinkedHashSet<>();
+    private final Object lock = new Object[0];
+    private volatile Snapshot snapshot = new Snapshot(Collections.<String, Object>emptyMap(), Collections.<String>emptySet());
+    private volatile Registration[] registrations = NO_REGISTRATIONS;
 
     public DelegatingMutableConfiguration(@Nonnull Configuration delegate) {
         super(delegate);
@@ -55,21 +69,86 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     public void set(@Nonnull String key, @Nonnull Object value) {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(value, ERROR_VALUE_NULL);
-        mutableKeyValues.put(key, value);
+        setAll(Collections.singletonMap(key, value));
+    }
+
+    @Override
+    public void setAll(@Nonnull Map<String, Object> values) {
+        requireNonNull(values, "Argument 'values' must not be null");
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            requireNonBlank(entry.getKey(), ERROR_KEY_BLANK);
+            requireNonNull(entry.getValue(), ERROR_VALUE_NULL);
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+
+        Set<String> changedKeys = new LinkedHashSet<>();
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            Map<String, Object> newValues = new LinkedHashMap<>(current.values);
+            Set<String> newRemovedKeys = new LinkedHashSet<>(current.removedKeys);
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String key = entry.getKey();
+                if (!entry.getValue().equals(get(current, key))) {
+                    changedKeys.add(key);
+                }
+                newValues.put(key, entry.getValue());
+                newRemovedKeys.remove(key);
+            }
+            snapshot = new Snapshot(newValues, newRemovedKeys);
+        }
+        fireConfigurationChanged(changedKeys);
     }
 
     @Nullable
     @Override
     public Object remove(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        if (mutableKeyValues.containsKey(key)) {
-            removedKeys.add(key);
-            return mutableKeyValues.remove(key);
-        } else if (!removedKeys.contains(key) && delegate.containsKey(key)) {
-            removedKeys.add(key);
-            return delegate.get(key);
+        Object value;
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            value = removedValue(current, key);
+            if (value == null && !current.values.containsKey(key)) {
+                return null;
+            }
+            Map<String, Object> newValues = new LinkedHashMap<>(current.values);
+            Set<String> newRemovedKeys = new LinkedHashSet<>(current.removedKeys);
+            newValues.remove(key);
+            newRemovedKeys.add(key);
+            snapshot = new Snapshot(newValues, newRemovedKeys);
         }
-        return null;
+        fireConfigurationChanged(Collections.singleton(key));
+        return value;
+    }
+
+    @Override
+    public void removeAll(@Nonnull Collection<String> keys) {
+        requireNonNull(keys, "Argument 'keys' must not be null");
+        for (String key : keys) {
+            requireNonBlank(key, ERROR_KEY_BLANK);
+        }
+
+        Set<String> changedKeys = new LinkedHashSet<>();
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            for (String key : keys) {
+                if (current.values.containsKey(key) || removedValue(current, key) != null) {
+                    changedKeys.add(key);
+                }
+            }
+            if (changedKeys.isEmpty()) {
+                return;
+            }
+            Map<String, Object> newValues = new LinkedHashMap<>(current.values);
+            Set<String> newRemovedKeys = new LinkedHashSet<>(current.removedKeys);
+            for (String key : changedKeys) {
+                newValues.remove(key);
+                newRemovedKeys.add(key);
+            }
+            snapshot = new Snapshot(newValues, newRemovedKeys);
+        }
+        fireConfigurationChanged(changedKeys);
     }
 
     @Nullable
@@ -86,15 +165,48 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
         return convertValue(remove(key), type);
     }
 
+    @Override
+    public void addConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        addRegistration(new Registration(null, listener));
+    }
+
+    @Override
+    public void addConfigurationChangeListener(@Nonnull String keyOrPrefix, @Nonnull ConfigurationChangeListener listener) {
+        requireNonBlank(keyOrPrefix, "Argument 'keyOrPrefix' must not be blank");
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        addRegistration(new Registration(keyOrPrefix, listener));
+    }
+
+    @Override
+    public void removeConfigurationChangeListener(@Nonnull ConfigurationChangeListener listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        synchronized (lock) {
+            List<Registration> remaining = new ArrayList<>();
+            for (Registration registration : registrations) {
+                if (registration.listener != listener) {
+                    remaining.add(registration);
+                }
+            }
+            registrations = remaining.toArray(new Registration[remaining.size()]);
+        }
+    }
+
     @Nonnull
     @Override
     public Map<String, Object> asFlatMap() {
-        Map<String, Object> flatMap = new LinkedHashMap<>(delegate.asFlatMap());
-        flatMap.putAll(mutableKeyValues);
-        for (String removedKey : removedKeys) {
-            flatMap.remove(removedKey);
+        Snapshot current = snapshot;
+        Map<String, Object> flatMap = current.flatMap;
+        if (flatMap == null) {
+            Map<String, Object> map = new LinkedHashMap<>(delegate.asFlatMap());
+            map.putAll(current.values);
+            for (String removedKey : current.removedKeys) {
+                map.remove(removedKey);
+            }
+            flatMap = unmodifiableMap(map);
+            current.flatMap = flatMap;
         }
-        return unmodifiableMap(flatMap);
+        return flatMap;
     }
 
     @Nonnull
@@ -107,14 +219,7 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Override
     public Object get(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        try {
-            return getConfigValue(mutableKeyValues, key);
-        } catch (MissingResourceException mre) {
-            if (removedKeys.contains(key)) {
-                return null;
-            }
-            return super.get(key);
-        }
+        return get(snapshot, key);
     }
 
     @Nullable
@@ -134,7 +239,88 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Override
     public boolean containsKey(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        return ConfigUtils.containsKey(mutableKeyValues, key) || (!removedKeys.contains(key) && delegate.containsKey(key));
+        Snapshot current = snapshot;
+        return current.index.contains(key) || (!current.removedKeys.contains(key) && delegate.containsKey(key));
+    }
+
+    @Nullable
+    private Object get(@Nonnull Snapshot current, @Nonnull String key) {
+        Object value = current.index.get(key);
+        if (value != null || current.removedKeys.contains(key)) {
+            return value;
+        }
+        return super.get(key);
+    }
+
+    @Nullable
+    private Object removedValue(@Nonnull Snapshot current, @Nonnull String key) {
+        if (current.values.containsKey(key)) {
+            return current.values.get(key);
+        } else if (!current.removedKeys.contains(key) && delegate.containsKey(key)) {
+            return delegate.get(key);
+        }
+        return null;
+    }
+
+    private void addRegistration(@Nonnull Registration registration) {
+        synchronized (lock) {
+            Registration[] current = registrations;
+            Registration[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = registration;
+            registrations = updated;
+        }
+    }
+
+    private void fireConfigurationChanged(@Nonnull Set<String> changedKeys) {
+        if (changedKeys.isEmpty()) {
+            return;
+        }
+        for (Registration registration : registrations) {
+            Set<String> keys = registration.filter(changedKeys);
+            if (!keys.isEmpty()) {
+                registration.listener.configurationChanged(this, keys);
+            }
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Object> values;
+        private final Set<String> removedKeys;
+        // resolves nested paths of the changed values without throwing on a miss
+        private final ConfigurationIndex index;
+        // computed on demand; racing threads compute equal maps
+        private volatile Map<String, Object> flatMap;
+
+        private Snapshot(@Nonnull Map<String, Object> values, @Nonnull Set<String> removedKeys) {
+            this.values = unmodifiableMap(values);
+            this.removedKeys = unmodifiableSet(removedKeys);
+            this.index = new ConfigurationIndex(this.values);
+        }
+    }
+
+    private static final class Registration {
+        private final String keyOrPrefix;
+        private final ConfigurationChangeListener listener;
+
+        private Registration(@Nullable String keyOrPrefix, @Nonnull ConfigurationChangeListener listener) {
+            this.keyOrPrefix = keyOrPrefix;
+            this.listener = listener;
+        }
+
+        @Nonnull
+        private Set<String> filter(@Nonnull Set<String> changedKeys) {
+            if (keyOrPrefix == null) {
+                return unmodifiableSet(changedKeys);
+            }
+            Set<String> keys = new LinkedHashSet<>();
+            for (String key : changedKeys) {
+                if (key.equals(keyOrPrefix) ||
+                    (key.startsWith(keyOrPrefix) && key.length() > keyOrPrefix.length() && key.charAt(keyOrPrefix.length()) == '.')) {
+                    keys.add(key);
+                }
+            }
+            return unmodifiableSet(keys);
+        }
     }
 
     private static class PrivateMapResourceBundle extends AbstractMapResourceBundle {
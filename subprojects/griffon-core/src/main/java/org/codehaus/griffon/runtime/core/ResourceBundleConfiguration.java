@@ -18,15 +18,10 @@ package org.codehaus.griffon.runtime.core;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
-import java.util.Enumeration;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
-import static griffon.util.ConfigUtils.getConfigValue;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -36,26 +31,22 @@ import static java.util.Objects.requireNonNull;
 public class ResourceBundleConfiguration extends AbstractConfiguration {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private final ResourceBundle resourceBundle;
-    private final Map<String, Object> flatMap = new LinkedHashMap<>();
+    private final ConfigurationIndex index;
 
     @Inject
     public ResourceBundleConfiguration(@Nonnull ResourceBundle resourceBundle) {
         this.resourceBundle = requireNonNull(resourceBundle, "Argument 'resourceBundle' must not be null");
-        Enumeration<String> keys = resourceBundle.getKeys();
-        while (keys.hasMoreElements()) {
-            String key = keys.nextElement();
-            flatMap.put(key, getConfigValue(resourceBundle, key));
-        }
+        this.index = new ConfigurationIndex(resourceBundle);
     }
 
     public boolean containsKey(@Nonnull String key) {
-        return resourceBundle.containsKey(requireNonBlank(key, ERROR_KEY_BLANK));
+        return index.asFlatMap().containsKey(requireNonBlank(key, ERROR_KEY_BLANK));
     }
 
     @Nonnull
     @Override
     public Map<String, Object> asFlatMap() {
-        return unmodifiableMap(flatMap);
+        return index.asFlatMap();
     }
 
     @Nonnull
@@ -67,10 +58,6 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     @Nullable
     @Override
     public Object get(@Nonnull String key) {
-        try {
-            return getConfigValue(resourceBundle, key);
-        } catch (MissingResourceException mre) {
-            return null;
-        }
+        return index.get(requireNonBlank(key, ERROR_KEY_BLANK));
     }
 }
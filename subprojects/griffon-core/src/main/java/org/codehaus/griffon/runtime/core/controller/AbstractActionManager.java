@@ -15,9 +15,13 @@
  */
 package org.codehaus.griffon.runtime.core.controller;
 
+import griffon.core.CallableWithArgs;
 import griffon.core.Configuration;
+import griffon.core.ConfigurationChangeListener;
 import griffon.core.Context;
 import griffon.core.GriffonApplication;
+import griffon.core.MutableConfiguration;
+import griffon.core.ObservableMutableConfiguration;
 import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonControllerClass;
 import griffon.core.controller.AbortActionExecution;
@@ -26,6 +30,7 @@ import griffon.core.controller.ActionExecutionStatus;
 import griffon.core.controller.ActionHandler;
 import griffon.core.controller.ActionInterceptor;
 import griffon.core.controller.ActionManager;
+import griffon.core.i18n.ExtendedMessageSource;
 import griffon.core.i18n.MessageSource;
 import griffon.core.i18n.NoSuchMessageException;
 import griffon.core.mvc.MVCGroup;
@@ -40,24 +45,31 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.lang.annotation.Annotation;
-import java.lang.ref.WeakReference;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EventObject;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
-import static griffon.util.CollectionUtils.reverse;
 import static griffon.util.GriffonClassUtils.EMPTY_ARGS;
+import static griffon.util.GriffonClassUtils.PRIMITIVE_TYPE_COMPATIBLE_CLASSES;
 import static griffon.util.GriffonClassUtils.invokeExactInstanceMethod;
 import static griffon.util.GriffonClassUtils.invokeInstanceMethod;
 import static griffon.util.GriffonNameUtils.capitalize;
@@ -84,15 +96,45 @@ public abstract class AbstractActionManager implements ActionManager {
     private static final String ERROR_ACTION_NAME_BLANK = "Argument 'actionName' must not be blank";
     private static final String ERROR_ACTION_HANDLER_NULL = "Argument 'actionHandler' must not be null";
     private static final String ERROR_ACTION_NULL = "Argument 'action' must not be null";
+    private static final ActionHandler[] NO_HANDLERS = new ActionHandler[0];
     private final ActionCache actionCache = new ActionCache();
     private final Map<String, Threading.Policy> threadingPolicies = new ConcurrentHashMap<>();
-    private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    /**
+     * Bumped whenever threading settings change; policies resolved against an older
+     * configuration are not cached.
+     */
+    private final AtomicInteger threadingConfigurationVersion = new AtomicInteger();
+    private final Object threadingPoliciesLock = new Object[0];
+    private final AtomicBoolean configurationWatched = new AtomicBoolean();
+    private final Map<String, ActionMetadata> actionMetadata = new ConcurrentHashMap<>();
+    private final Object handlersLock = new Object[0];
+    @GuardedBy("handlersLock")
+    private final List<ActionHandler> handlers = new ArrayList<>();
+    private volatile ActionHandler[] handlerChain = NO_HANDLERS;
+    /**
+     * Precompiled invokers bypass {@link #doInvokeAction(GriffonController, String, Object[])},
+     * they are only used when subclasses do not customize it.
+     */
+    private final boolean precompiledInvocation;
 
     private final GriffonApplication application;
 
     @Inject
     public AbstractActionManager(@Nonnull GriffonApplication application) {
         this.application = requireNonNull(application, "Argument 'application' must not be null");
+        this.precompiledInvocation = !isDoInvokeActionOverridden(getClass());
+    }
+
+    private static boolean isDoInvokeActionOverridden(@Nonnull Class<?> type) {
+        for (Class<?> c = type; c != AbstractActionManager.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("doInvokeAction", GriffonController.class, String.class, Object[].class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
     }
 
     @Nullable
@@ -147,40 +189,64 @@ public abstract class AbstractActionManager implements ActionManager {
 
     public void createActions(@Nonnull GriffonController controller) {
         GriffonControllerClass griffonClass = (GriffonControllerClass) controller.getGriffonClass();
+        // actions are published once all of them have been created
+        Map<String, ActionWrapper> actions = new TreeMap<>(actionCache.get(controller));
         for (String actionName : griffonClass.getActionNames()) {
-            Method method = findActionAsMethod(controller, actionName);
-            if (method == null) {
+            ActionMetadata metadata = metadataFor(controller, actionName);
+            if (metadata == null) {
                 throw new GriffonException(controller.getClass().getCanonicalName() + " does not define an action named " + actionName);
             }
 
-            ActionWrapper action = wrapAction(createAndConfigureAction(controller, actionName), method);
+            ActionWrapper action = new ActionWrapper(createAndConfigureAction(controller, actionName), metadata);
+            Method method = metadata.method;
 
             final String qualifiedActionName = action.getFullyQualifiedName();
-            for (ActionHandler handler : handlers) {
+            for (ActionHandler handler : handlerChain) {
                 LOG.debug("Configuring action {} with {}", qualifiedActionName, handler);
                 handler.configure(action, method);
             }
 
-            Map<String, ActionWrapper> actions = actionCache.get(controller);
-            if (actions.isEmpty()) {
-                actions = new TreeMap<>();
-                actionCache.set(controller, actions);
-            }
             String actionKey = normalizeName(actionName);
             LOG.trace("Action for {} stored as {}", qualifiedActionName, actionKey);
             actions.put(actionKey, action);
         }
+
+        actionCache.set(controller, actions);
     }
 
-    @Nonnull
-    private ActionWrapper wrapAction(@Nonnull Action action, @Nonnull Method method) {
-        return new ActionWrapper(action, method);
+    @Nullable
+    private ActionMetadata metadataFor(@Nonnull GriffonController controller, @Nonnull String actionName) {
+        String fullQualifiedActionName = controller.getClass().getName() + "." + actionName;
+        ActionMetadata metadata = actionMetadata.get(fullQualifiedActionName);
+        if (metadata == null) {
+            Method method = findActionAsMethod(controller, actionName);
+            if (method == null) {
+                return null;
+            }
+            metadata = new ActionMetadata(method);
+            actionMetadata.put(fullQualifiedActionName, metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Discards the actions of the given controller, usually because it is being destroyed.
+     * Cached actions keep their controller reachable until this method is called.
+     *
+     * @param controller the controller whose actions should be discarded
+     * @since 2.9.0
+     */
+    public void removeActions(@Nonnull GriffonController controller) {
+        requireNonNull(controller, ERROR_CONTROLLER_NULL);
+        actionCache.remove(controller);
     }
 
     @Override
     public void updateActions() {
-        for (Action action : actionCache.allActions()) {
-            updateAction(action);
+        for (Map<String, ActionWrapper> actions : actionCache.values()) {
+            for (Action action : actions.values()) {
+                updateAction(action);
+            }
         }
     }
 
@@ -196,7 +262,7 @@ public abstract class AbstractActionManager implements ActionManager {
         requireNonNull(action, ERROR_ACTION_NULL);
 
         final String qualifiedActionName = action.getFullyQualifiedName();
-        for (ActionHandler handler : handlers) {
+        for (ActionHandler handler : handlerChain) {
             LOG.trace("Calling {}.update() on {}", handler, qualifiedActionName);
             handler.update(action);
         }
@@ -212,85 +278,113 @@ public abstract class AbstractActionManager implements ActionManager {
     @Override
     public void invokeAction(@Nonnull final Action action, @Nonnull final Object... args) {
         requireNonNull(action, ERROR_ACTION_NULL);
-        final GriffonController controller = action.getController();
-        final String actionName = action.getActionName();
+        Threading.Policy policy = threadingPolicyFor(action);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing {} with policy {}", action.getFullyQualifiedName(), policy);
+        }
+
+        if (policy == Threading.Policy.SKIP) {
+            executeAction(action, args);
+            return;
+        }
+
         Runnable runnable = new Runnable() {
-            @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
             public void run() {
-                Object[] updatedArgs = args;
-                List<ActionHandler> copy = new ArrayList<>(handlers);
-                List<ActionHandler> invokedHandlers = new ArrayList<>();
-
-                final String qualifiedActionName = action.getFullyQualifiedName();
-                ActionExecutionStatus status = ActionExecutionStatus.OK;
-
-                try {
-                    LOG.trace("Resolving contextual arguments for " + qualifiedActionName);
-                    updatedArgs = injectFromContext(action, updatedArgs);
-                } catch (IllegalStateException ise) {
-                    LOG.debug("Execution of " + qualifiedActionName + " was aborted", ise);
-                    throw ise;
-                }
+                executeAction(action, args);
+            }
+        };
+        switch (policy) {
+            case OUTSIDE_UITHREAD:
+                getUiThreadManager().runOutsideUI(runnable);
+                break;
+            case INSIDE_UITHREAD_SYNC:
+                getUiThreadManager().runInsideUISync(runnable);
+                break;
+            case INSIDE_UITHREAD_ASYNC:
+                getUiThreadManager().runInsideUIAsync(runnable);
+                break;
+            default:
+                runnable.run();
+        }
+    }
 
-                if (LOG.isDebugEnabled()) {
-                    int size = copy.size();
-                    LOG.debug("Executing " + size + " handler" + (size != 1 ? "s" : "") + " for " + qualifiedActionName);
-                }
+    @SuppressWarnings("ThrowableResultOfMethodCallIgnored")
+    private void executeAction(@Nonnull Action action, @Nonnull Object[] args) {
+        // handlers are iterated forward for before() and backward for after() and exception()
+        ActionHandler[] chain = handlerChain;
+        Object[] updatedArgs = args;
+        int invoked = 0;
 
-                for (ActionHandler handler : copy) {
-                    invokedHandlers.add(handler);
-                    try {
-                        LOG.trace("Calling {}.before() on {}", handler, qualifiedActionName);
-                        updatedArgs = handler.before(action, updatedArgs);
-                    } catch (AbortActionExecution aae) {
-                        status = ActionExecutionStatus.ABORTED;
-                        LOG.debug("Execution of {} was aborted by {}", qualifiedActionName, handler);
-                        break;
-                    }
-                }
+        final String qualifiedActionName = action.getFullyQualifiedName();
+        ActionExecutionStatus status = ActionExecutionStatus.OK;
 
-                LOG.trace("Status before execution of {} is {}", qualifiedActionName, status);
-                RuntimeException exception = null;
-                boolean exceptionWasHandled = false;
-                if (status == ActionExecutionStatus.OK) {
-                    try {
-                        doInvokeAction(controller, actionName, updatedArgs);
-                    } catch (RuntimeException e) {
-                        status = ActionExecutionStatus.EXCEPTION;
-                        exception = (RuntimeException) sanitize(e);
-                        LOG.warn("An exception occurred when executing {}", qualifiedActionName, exception);
-                    }
-                    LOG.trace("Status after execution of {} is {}", qualifiedActionName, status);
+        try {
+            LOG.trace("Resolving contextual arguments for {}", qualifiedActionName);
+            updatedArgs = injectFromContext(action, updatedArgs);
+        } catch (IllegalStateException ise) {
+            LOG.debug("Execution of {} was aborted", qualifiedActionName, ise);
+            throw ise;
+        }
 
-                    if (exception != null) {
-                        for (ActionHandler handler : reverse(invokedHandlers)) {
-                            LOG.trace("Calling {}.exception() on {}", handler, qualifiedActionName);
-                            exceptionWasHandled = handler.exception(exception, action, updatedArgs);
-                        }
-                    }
-                }
+        if (LOG.isDebugEnabled()) {
+            int size = chain.length;
+            LOG.debug("Executing {} handler{} for {}", size, size != 1 ? "s" : "", qualifiedActionName);
+        }
 
-                for (ActionHandler handler : reverse(invokedHandlers)) {
-                    LOG.trace("Calling {}.after() on {}", handler, qualifiedActionName);
-                    handler.after(status, action, updatedArgs);
-                }
+        for (ActionHandler handler : chain) {
+            invoked++;
+            try {
+                LOG.trace("Calling {}.before() on {}", handler, qualifiedActionName);
+                updatedArgs = handler.before(action, updatedArgs);
+            } catch (AbortActionExecution aae) {
+                status = ActionExecutionStatus.ABORTED;
+                LOG.debug("Execution of {} was aborted by {}", qualifiedActionName, handler);
+                break;
+            }
+        }
 
-                if (exception != null && !exceptionWasHandled) {
-                    // throw it again
-                    throw exception;
+        LOG.trace("Status before execution of {} is {}", qualifiedActionName, status);
+        RuntimeException exception = null;
+        boolean exceptionWasHandled = false;
+        if (status == ActionExecutionStatus.OK) {
+            try {
+                doInvokeAction(action, updatedArgs);
+            } catch (RuntimeException e) {
+                status = ActionExecutionStatus.EXCEPTION;
+                exception = (RuntimeException) sanitize(e);
+                LOG.warn("An exception occurred when executing {}", qualifiedActionName, exception);
+            }
+            LOG.trace("Status after execution of {} is {}", qualifiedActionName, status);
+
+            if (exception != null) {
+                for (int i = invoked - 1; i >= 0; i--) {
+                    LOG.trace("Calling {}.exception() on {}", chain[i], qualifiedActionName);
+                    exceptionWasHandled = chain[i].exception(exception, action, updatedArgs);
                 }
             }
-        };
-        invokeAction(controller, actionName, runnable);
+        }
+
+        for (int i = invoked - 1; i >= 0; i--) {
+            LOG.trace("Calling {}.after() on {}", chain[i], qualifiedActionName);
+            chain[i].after(status, action, updatedArgs);
+        }
+
+        if (exception != null && !exceptionWasHandled) {
+            // throw it again
+            throw exception;
+        }
     }
 
     @Nonnull
     private Object[] injectFromContext(@Nonnull Action action, @Nonnull Object[] args) {
-        ActionWrapper wrappedAction = null;
+        ActionMetadata metadata;
         if (action instanceof ActionWrapper) {
-            wrappedAction = (ActionWrapper) action;
+            metadata = ((ActionWrapper) action).metadata;
         } else {
-            wrappedAction = wrapAction(action, findActionAsMethod(action.getController(), action.getActionName()));
+            metadata = metadataFor(action.getController(), action.getActionName());
+            if (metadata == null) {
+                return args;
+            }
         }
 
         MVCGroup group = action.getController().getMvcGroup();
@@ -301,10 +395,10 @@ public abstract class AbstractActionManager implements ActionManager {
         }
 
         Context context = group.getContext();
-        if (wrappedAction.hasContextualArgs) {
-            Object[] newArgs = new Object[wrappedAction.argumentsInfo.size()];
+        if (metadata.hasContextualArgs) {
+            Object[] newArgs = new Object[metadata.argumentsInfo.length];
             for (int i = 0; i < newArgs.length; i++) {
-                ArgInfo argInfo = wrappedAction.argumentsInfo.get(i);
+                ArgInfo argInfo = metadata.argumentsInfo[i];
                 newArgs[i] = argInfo.contextual ? context.get(argInfo.name) : args[i];
                 if (argInfo.contextual && newArgs[i] != null) context.put(argInfo.name, newArgs[i]);
                 if (argInfo.contextual && !argInfo.nullable && newArgs[i] == null) {
@@ -327,6 +421,23 @@ public abstract class AbstractActionManager implements ActionManager {
         invokeAction(actionFor(controller, actionName), args);
     }
 
+    /**
+     * Invokes an action with its precompiled invoker when the arguments match the action's
+     * parameters, stripping a single {@code EventObject} argument if the action takes none.
+     * Falls back to {@link #doInvokeAction(GriffonController, String, Object[])} otherwise, or
+     * always when a subclass overrides that method.
+     *
+     * @param action      the action to be invoked
+     * @param updatedArgs the arguments
+     * @since 2.9.0
+     */
+    protected void doInvokeAction(@Nonnull Action action, @Nonnull Object[] updatedArgs) {
+        if (precompiledInvocation && action instanceof ActionWrapper && ((ActionWrapper) action).metadata.invoke(action.getController(), updatedArgs)) {
+            return;
+        }
+        doInvokeAction(action.getController(), action.getActionName(), updatedArgs);
+    }
+
     protected void doInvokeAction(@Nonnull GriffonController controller, @Nonnull String actionName, @Nonnull Object[] updatedArgs) {
         try {
             invokeInstanceMethod(controller, actionName, updatedArgs);
@@ -345,41 +456,48 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
-    private void invokeAction(@Nonnull GriffonController controller, @Nonnull String actionName, @Nonnull Runnable runnable) {
+    @Nonnull
+    private Threading.Policy threadingPolicyFor(@Nonnull Action action) {
+        if (action instanceof ActionWrapper) {
+            ActionWrapper wrapper = (ActionWrapper) action;
+            int version = threadingConfigurationVersion.get();
+            ThreadingPolicyStamp stamp = wrapper.threadingPolicy;
+            if (stamp == null || stamp.version != version) {
+                stamp = new ThreadingPolicyStamp(threadingPolicyFor(action.getController(), action.getActionName()), version);
+                wrapper.threadingPolicy = stamp;
+            }
+            return stamp.policy;
+        }
+        return threadingPolicyFor(action.getController(), action.getActionName());
+    }
+
+    @Nonnull
+    private Threading.Policy threadingPolicyFor(@Nonnull GriffonController controller, @Nonnull String actionName) {
         String fullQualifiedActionName = controller.getClass().getName() + "." + actionName;
         Threading.Policy policy = threadingPolicies.get(fullQualifiedActionName);
         if (policy == null) {
+            watchThreadingConfiguration();
+            int version = threadingConfigurationVersion.get();
             if (isThreadingDisabled(fullQualifiedActionName)) {
                 policy = Threading.Policy.SKIP;
             } else {
                 policy = resolveThreadingPolicy(controller, actionName);
             }
-            threadingPolicies.put(fullQualifiedActionName, policy);
-        }
-
-        LOG.debug("Executing {} with policy {}", fullQualifiedActionName, policy);
-
-        switch (policy) {
-            case OUTSIDE_UITHREAD:
-                getUiThreadManager().runOutsideUI(runnable);
-                break;
-            case INSIDE_UITHREAD_SYNC:
-                getUiThreadManager().runInsideUISync(runnable);
-                break;
-            case INSIDE_UITHREAD_ASYNC:
-                getUiThreadManager().runInsideUIAsync(runnable);
-                break;
-            case SKIP:
-            default:
-                runnable.run();
+            synchronized (threadingPoliciesLock) {
+                // the configuration changed while resolving, the policy is used once but not cached
+                if (version == threadingConfigurationVersion.get()) {
+                    threadingPolicies.put(fullQualifiedActionName, policy);
+                }
+            }
         }
+        return policy;
     }
 
     @Nonnull
     private Threading.Policy resolveThreadingPolicy(@Nonnull GriffonController controller, @Nonnull String actionName) {
-        Method method = findActionAsMethod(controller, actionName);
-        if (method != null) {
-            Threading annotation = method.getAnnotation(Threading.class);
+        ActionMetadata metadata = metadataFor(controller, actionName);
+        if (metadata != null) {
+            Threading annotation = metadata.method.getAnnotation(Threading.class);
             return annotation == null ? resolveThreadingPolicy(controller) : annotation.value();
         }
 
@@ -426,6 +544,25 @@ public abstract class AbstractActionManager implements ActionManager {
         }
     }
 
+    private void watchThreadingConfiguration() {
+        Configuration configuration = getConfiguration();
+        if (configuration instanceof ObservableMutableConfiguration && configurationWatched.compareAndSet(false, true)) {
+            // resolved policies depend on these settings
+            ConfigurationChangeListener listener = new ConfigurationChangeListener() {
+                @Override
+                public void configurationChanged(@Nonnull MutableConfiguration configuration, @Nonnull Set<String> keys) {
+                    synchronized (threadingPoliciesLock) {
+                        threadingConfigurationVersion.incrementAndGet();
+                        threadingPolicies.clear();
+                    }
+                }
+            };
+            ObservableMutableConfiguration observableConfiguration = (ObservableMutableConfiguration) configuration;
+            observableConfiguration.addConfigurationChangeListener(KEY_THREADING, listener);
+            observableConfiguration.addConfigurationChangeListener(KEY_DISABLE_THREADING_INJECTION, listener);
+        }
+    }
+
     private boolean isThreadingDisabled(@Nonnull String actionName) {
         if (getConfiguration().getAsBoolean(KEY_DISABLE_THREADING_INJECTION, false)) {
             return true;
@@ -445,10 +582,13 @@ public abstract class AbstractActionManager implements ActionManager {
 
     public void addActionHandler(@Nonnull ActionHandler actionHandler) {
         requireNonNull(actionHandler, ERROR_ACTION_HANDLER_NULL);
-        if (handlers.contains(actionHandler)) {
-            return;
+        synchronized (handlersLock) {
+            if (handlers.contains(actionHandler)) {
+                return;
+            }
+            handlers.add(actionHandler);
+            handlerChain = handlers.toArray(new ActionHandler[handlers.size()]);
         }
-        handlers.add(actionHandler);
     }
 
     public void addActionInterceptor(@Nonnull ActionInterceptor actionInterceptor) {
@@ -493,24 +633,84 @@ public abstract class AbstractActionManager implements ActionManager {
 
     @Nullable
     protected String msg(@Nonnull String key, @Nonnull String actionName, @Nonnull String subkey, @Nullable String defaultValue) {
+        Object value = resolveMessageValueOrNull(key + actionName + "." + subkey);
+        if (value instanceof CharSequence) {
+            return value.toString();
+        } else if (value instanceof CallableWithArgs) {
+            // evaluated the same way MessageSource.getMessage() would, without resolving the key again
+            Object result = ((CallableWithArgs<?>) value).call(EMPTY_ARGS);
+            if (result != null) {
+                return result.toString();
+            }
+        }
+        return getMessageSource().getMessage("application.action." + actionName + "." + subkey, defaultValue);
+    }
+
+    @Nullable
+    private Object resolveMessageValueOrNull(@Nonnull String key) {
+        MessageSource messageSource = getMessageSource();
+        if (messageSource instanceof ExtendedMessageSource) {
+            return ((ExtendedMessageSource) messageSource).resolveMessageValueOrNull(key, Locale.getDefault());
+        }
         try {
-            return getMessageSource().getMessage(key + actionName + "." + subkey);
+            return messageSource.resolveMessageValue(key, Locale.getDefault());
         } catch (NoSuchMessageException nsme) {
-            return getMessageSource().getMessage("application.action." + actionName + "." + subkey, defaultValue);
+            return null;
         }
     }
 
     private static class ActionWrapper extends ActionDecorator {
-        private final List<ArgInfo> argumentsInfo = new ArrayList<>();
-        private boolean hasContextualArgs;
+        private final ActionMetadata metadata;
+        private final String fullyQualifiedName;
+        private volatile ThreadingPolicyStamp threadingPolicy;
 
-        public ActionWrapper(@Nonnull Action delegate, @Nonnull Method method) {
+        public ActionWrapper(@Nonnull Action delegate, @Nonnull ActionMetadata metadata) {
             super(delegate);
+            this.metadata = metadata;
+            this.fullyQualifiedName = delegate.getFullyQualifiedName();
+        }
+
+        @Nonnull
+        @Override
+        public String getFullyQualifiedName() {
+            return fullyQualifiedName;
+        }
+    }
+
+    private static final class ThreadingPolicyStamp {
+        private final Threading.Policy policy;
+        private final int version;
+
+        private ThreadingPolicyStamp(@Nonnull Threading.Policy policy, int version) {
+            this.policy = policy;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Resolved once per controller class and action name.
+     */
+    private static class ActionMetadata {
+        private final Method method;
+        private final ArgInfo[] argumentsInfo;
+        private final Class<?>[] argumentTypes;
+        private final boolean[] primitives;
+        private final MethodHandle invoker;
+        private boolean hasContextualArgs;
+
+        private ActionMetadata(@Nonnull Method method) {
+            this.method = method;
 
             Class<?>[] parameterTypes = method.getParameterTypes();
             Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+            argumentsInfo = new ArgInfo[parameterTypes.length];
+            argumentTypes = new Class<?>[parameterTypes.length];
+            primitives = new boolean[parameterTypes.length];
             hasContextualArgs = method.getAnnotation(Contextual.class) != null;
             for (int i = 0; i < parameterTypes.length; i++) {
+                primitives[i] = parameterTypes[i].isPrimitive();
+                argumentTypes[i] = primitives[i] ? PRIMITIVE_TYPE_COMPATIBLE_CLASSES.get(parameterTypes[i]) : parameterTypes[i];
+
                 ArgInfo argInfo = new ArgInfo();
                 argInfo.type = parameterTypes[i];
                 argInfo.name = argInfo.type.getCanonicalName();
@@ -533,7 +733,63 @@ public abstract class AbstractActionManager implements ActionManager {
                         }
                     }
                 }
-                argumentsInfo.add(argInfo);
+                argumentsInfo[i] = argInfo;
+            }
+
+            invoker = compile(method);
+        }
+
+        /**
+         * @return false if the arguments do not match the action's parameters, in which case nothing was invoked
+         */
+        private boolean invoke(@Nonnull GriffonController controller, @Nonnull Object[] args) {
+            if (invoker == null) {
+                return false;
+            }
+
+            Object[] actualArgs = args;
+            if (!accepts(args)) {
+                if (argumentTypes.length == 0 && args.length == 1 && args[0] instanceof EventObject) {
+                    actualArgs = EMPTY_ARGS;
+                } else {
+                    return false;
+                }
+            }
+
+            try {
+                invoker.invokeExact((Object) controller, actualArgs);
+            } catch (Throwable t) {
+                throw new InstanceMethodInvocationException(controller, method, t);
+            }
+            return true;
+        }
+
+        private boolean accepts(@Nonnull Object[] args) {
+            if (args.length != argumentTypes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                if (arg == null ? primitives[i] : !argumentTypes[i].isInstance(arg)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Nullable
+        private static MethodHandle compile(@Nonnull Method method) {
+            int arity = method.getParameterTypes().length;
+            try {
+                return MethodHandles.publicLookup().unreflect(method)
+                    .asType(MethodType.genericMethodType(arity + 1).changeReturnType(void.class))
+                    .asSpreader(Object[].class, arity);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fallback to reflective invocation
+                LOG.trace("Could not compile action " + method, e);
+                return null;
             }
         }
     }
@@ -545,51 +801,59 @@ public abstract class AbstractActionManager implements ActionManager {
         private boolean contextual = false;
     }
 
-    private static class ActionCache {
-        private final Map<WeakReference<GriffonController>, Map<String, ActionWrapper>> cache = new ConcurrentHashMap<>();
+    /**
+     * Maps controllers, compared by identity, to their actions. Actions reference their controller,
+     * so entries are discarded explicitly with {@link #remove(GriffonController)} when the controller
+     * is destroyed.
+     */
+    static class ActionCache {
+        private final ConcurrentMap<ControllerKey, Map<String, ActionWrapper>> cache = new ConcurrentHashMap<>();
 
         @Nonnull
         public Map<String, ActionWrapper> get(@Nonnull GriffonController controller) {
-            synchronized (cache) {
-                for (Map.Entry<WeakReference<GriffonController>, Map<String, ActionWrapper>> entry : cache.entrySet()) {
-                    GriffonController test = entry.getKey().get();
-                    if (test == controller) {
-                        return entry.getValue();
-                    }
-                }
-            }
-            return Collections.emptyMap();
+            Map<String, ActionWrapper> actions = cache.get(new ControllerKey(controller));
+            return actions != null ? actions : Collections.<String, ActionWrapper>emptyMap();
         }
 
         public void set(@Nonnull GriffonController controller, @Nonnull Map<String, ActionWrapper> actions) {
-            WeakReference<GriffonController> existingController = null;
-            synchronized (cache) {
-                for (WeakReference<GriffonController> key : cache.keySet()) {
-                    if (key.get() == controller) {
-                        existingController = key;
-                        break;
-                    }
-                }
-            }
+            cache.put(new ControllerKey(controller), actions);
+        }
 
-            if (null != existingController) {
-                cache.remove(existingController);
-            }
+        public void remove(@Nonnull GriffonController controller) {
+            cache.remove(new ControllerKey(controller));
+        }
 
-            cache.put(new WeakReference<>(controller), actions);
+        /**
+         * Returns the number of controllers with cached actions.
+         */
+        public int size() {
+            return cache.size();
         }
 
-        public Collection<Action> allActions() {
-            // create a copy to avoid CME
-            List<Action> actions = new ArrayList<>();
+        /**
+         * Returns a live view of the actions of every controller, one map per controller.
+         */
+        @Nonnull
+        public Collection<Map<String, ActionWrapper>> values() {
+            return cache.values();
+        }
+    }
 
-            synchronized (cache) {
-                for (Map<String, ActionWrapper> map : cache.values()) {
-                    actions.addAll(map.values());
-                }
-            }
+    static final class ControllerKey {
+        private final GriffonController controller;
+
+        ControllerKey(@Nonnull GriffonController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(controller);
+        }
 
-            return actions;
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof ControllerKey && controller == ((ControllerKey) obj).controller;
         }
     }
 }
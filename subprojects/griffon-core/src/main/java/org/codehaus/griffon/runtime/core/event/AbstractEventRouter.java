@@ -16,35 +16,46 @@
 package org.codehaus.griffon.runtime.core.event;
 
 import griffon.core.CallableWithArgs;
+import griffon.core.ConfigurableExecutorServiceManager;
 import griffon.core.ExceptionHandler;
 import griffon.core.ExecutorServiceManager;
 import griffon.core.RunnableWithArgs;
 import griffon.core.event.Event;
-import griffon.core.event.EventRouter;
+import griffon.core.event.ExtendedEventRouter;
+import griffon.exceptions.InstanceMethodInvocationException;
 import griffon.util.GriffonClassUtils;
 import griffon.util.MethodDescriptor;
-import griffon.util.MethodUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
-import static griffon.util.GriffonClassUtils.convertToTypeArray;
+import static griffon.util.GriffonClassUtils.PRIMITIVE_TYPE_COMPATIBLE_CLASSES;
+import static griffon.util.GriffonClassUtils.requireState;
 import static griffon.util.GriffonNameUtils.capitalize;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
@@ -55,7 +66,12 @@ import static java.util.Objects.requireNonNull;
 /**
  * @author Andres Almiray
  */
-public abstract class AbstractEventRouter implements EventRouter {
+public abstract class AbstractEventRouter implements ExtendedEventRouter {
+    /**
+     * @deprecated no longer used by this class, listener registries are copy-on-write and need no shared lock.
+     * Subclasses should declare their own lock.
+     */
+    @Deprecated
     protected static final Object[] LOCK = new Object[0];
     private static final String ERROR_EVENT_NAME_BLANK = "Argument 'eventName' must not be blank";
     private static final String ERROR_EVENT_HANDLER_BLANK = "Argument 'eventHandler' must not be blank";
@@ -69,43 +85,219 @@ public abstract class AbstractEventRouter implements EventRouter {
     private static final String ERROR_INSTANCE_NULL = "Argument 'instance' must not be null";
     private static final String ERROR_OWNER_NULL = "Argument 'owner' must not be null";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractEventRouter.class);
-    protected final Map<String, List<Object>> instanceListeners = new ConcurrentHashMap<>();
-    protected final Map<String, List<Object>> functionalListeners = new ConcurrentHashMap<>();
+    private static final Object[] NO_LISTENERS = new Object[0];
+    /**
+     * Immutable snapshots of registered listeners (beans and functional), keyed by event name.
+     * Writers replace a snapshot atomically; publishers read it without copying.
+     */
+    protected final ConcurrentMap<String, Object[]> listeners = new ConcurrentHashMap<>();
+    /**
+     * Immutable snapshots of typed listeners, keyed by the event type they were registered for.
+     */
+    protected final ConcurrentMap<Class<?>, Object[]> typedListeners = new ConcurrentHashMap<>();
+    /**
+     * Resolved typed listeners per concrete event class. Backed by {@code ClassValue} so that
+     * event classes (and their classloaders) are not kept reachable by this router.
+     */
+    private final ClassValue<AtomicReference<TypedListeners>> resolvedTypedListeners = new ClassValue<AtomicReference<TypedListeners>>() {
+        @Override
+        protected AtomicReference<TypedListeners> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    private final AtomicInteger typedListenersVersion = new AtomicInteger();
     private final MethodCache methodCache = new MethodCache();
-    private boolean enabled = true;
+    private volatile boolean enabled = true;
+    /**
+     * Number of threads that currently have event publishing suspended. Lets publishers skip
+     * the thread local lookup when no thread is suspended.
+     */
+    private final AtomicInteger suspendedThreads = new AtomicInteger();
+    private final ThreadLocal<int[]> suspensions = new ThreadLocal<>();
+    /**
+     * Immutable snapshots of batch listeners for coalesced events, keyed by event name.
+     */
+    protected final ConcurrentMap<String, Object[]> batchListeners = new ConcurrentHashMap<>();
+    private final Object coalescerLock = new Object[0];
+    @GuardedBy("coalescerLock")
+    private EventCoalescer eventCoalescer;
+    private volatile long eventCoalescingWindow = DEFAULT_EVENT_COALESCING_WINDOW;
 
     protected static final AtomicInteger EVENT_ROUTER_ID = new AtomicInteger(1);
+    protected static final long DEFAULT_EVENT_COALESCING_WINDOW = 100L;
 
     protected ExecutorServiceManager executorServiceManager;
-    protected final ExecutorService executorService;
+    /**
+     * Supplied by the {@code ExecutorServiceManager}, or created on first use when none was set.
+     * Read it through {@link #getExecutorService()}.
+     */
+    protected volatile ExecutorService executorService;
     protected final int eventRouterId;
+    private final Object executorLock = new Object[0];
 
     @Inject
     private ExceptionHandler exceptionHandler;
 
     public AbstractEventRouter() {
         eventRouterId = EVENT_ROUTER_ID.getAndIncrement();
-        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory(eventRouterId));
     }
 
     @Inject
     public void setExecutorServiceManager(@Nonnull ExecutorServiceManager executorServiceManager) {
         requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
-        if (this.executorServiceManager != null) {
-            this.executorServiceManager.remove(executorService);
+        synchronized (executorLock) {
+            ExecutorService previous = executorService;
+            if (this.executorServiceManager != null && previous != null) {
+                this.executorServiceManager.remove(previous);
+            }
+            this.executorServiceManager = executorServiceManager;
+            if (executorServiceManager instanceof ConfigurableExecutorServiceManager) {
+                executorService = ((ConfigurableExecutorServiceManager) executorServiceManager).newExecutorService("event", new DefaultThreadFactory(eventRouterId));
+            } else {
+                executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory(eventRouterId));
+                executorServiceManager.add(executorService);
+            }
+            if (previous != null) {
+                previous.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the handler that receives exceptions thrown by listeners notified on a background thread.
+     *
+     * @since 2.9.0
+     */
+    protected ExceptionHandler getExceptionHandler() {
+        return exceptionHandler;
+    }
+
+    /**
+     * Returns the executor used to deliver events asynchronously. A fixed thread pool is created
+     * on first use if no {@code ExecutorServiceManager} has been set.
+     *
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected ExecutorService getExecutorService() {
+        ExecutorService service = executorService;
+        if (service == null) {
+            synchronized (executorLock) {
+                if (executorService == null) {
+                    executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory(eventRouterId));
+                }
+                service = executorService;
+            }
         }
-        this.executorServiceManager = executorServiceManager;
-        this.executorServiceManager.add(executorService);
+        return service;
+    }
+
+    @Override
+    public long getEventCoalescingWindow() {
+        return eventCoalescingWindow;
+    }
+
+    @Override
+    public void setEventCoalescingWindow(long window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("Argument 'window' must not be negative. Was " + window);
+        }
+        this.eventCoalescingWindow = window;
+        synchronized (coalescerLock) {
+            if (eventCoalescer != null) {
+                eventCoalescer.setWindow(window);
+            }
+        }
+    }
+
+    @Override
+    public void publishEventCoalesced(@Nonnull String eventName, @Nullable List<?> params) {
+        publishEventCoalesced(eventName, null, params);
+    }
+
+    @Override
+    public void publishEventCoalesced(@Nonnull String eventName, @Nullable Object coalescingKey, @Nullable List<?> params) {
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        if (params == null) params = EMPTY_LIST;
+        eventName = capitalize(eventName);
+        // batch listeners are captured by the window, late registrations wait for the next one
+        getEventCoalescer().publish(eventName, coalescingKey, params, batchListeners.get(eventName));
+    }
+
+    @Override
+    public void addBatchEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        eventName = capitalize(eventName);
+        if (addToSnapshot(batchListeners, eventName, listener)) {
+            LOG.debug("Adding batch listener {} on {}", listener.getClass().getName(), eventName);
+        }
+    }
+
+    @Override
+    public void removeBatchEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        eventName = capitalize(eventName);
+        if (removeFromSnapshot(batchListeners, eventName, listener)) {
+            LOG.debug("Removing batch listener {} on {}", listener.getClass().getName(), eventName);
+        }
+    }
+
+    @Nonnull
+    private EventCoalescer getEventCoalescer() {
+        synchronized (coalescerLock) {
+            if (eventCoalescer == null) {
+                ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory(eventRouterId, "coalescer"));
+                if (executorServiceManager != null) {
+                    executorServiceManager.add(scheduler);
+                }
+                eventCoalescer = new EventCoalescer(scheduler, new EventCoalescer.Sink() {
+                    @Override
+                    public void flush(@Nonnull String eventName, @Nonnull Collection<List<?>> latest, @Nonnull List<List<?>> batch, @Nonnull Object[] listeners) {
+                        doPublishAsync(eventName, buildCoalescedPublisher(eventName, latest, batch, listeners));
+                    }
+                }, eventCoalescingWindow);
+            }
+            return eventCoalescer;
+        }
+    }
+
+    /**
+     * Builds a publisher for the contents of a closed coalescing window.
+     *
+     * @param eventName the capitalized name of the event
+     * @param latest    the latest arguments per coalescing key
+     * @param batch     the arguments of every event published during the window
+     * @param listeners the batch listeners registered when the window opened
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Runnable buildCoalescedPublisher(@Nonnull final String eventName, @Nonnull final Collection<List<?>> latest, @Nonnull final List<List<?>> batch, @Nonnull final Object[] listeners) {
+        return new Runnable() {
+            public void run() {
+                for (List<?> params : latest) {
+                    buildPublisher(eventName, params, "coalesced").run();
+                }
+
+                if (!batch.isEmpty()) {
+                    for (Object listener : listeners) {
+                        ((RunnableWithArgs) listener).run(batch);
+                    }
+                }
+            }
+        };
     }
 
     protected void runInsideExecutorService(@Nonnull final Runnable runnable) {
         requireNonNull(runnable, ERROR_RUNNABLE_NULL);
-        executorService.submit(new Runnable() {
+        getExecutorService().submit(new Runnable() {
             public void run() {
                 try {
                     runnable.run();
                 } catch (Throwable throwable) {
-                    exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+                    getExceptionHandler().uncaughtException(Thread.currentThread(), throwable);
                 }
             }
         });
@@ -113,18 +305,49 @@ public abstract class AbstractEventRouter implements EventRouter {
 
     @Override
     public boolean isEventPublishingEnabled() {
-        synchronized (LOCK) {
-            return this.enabled;
-        }
+        return this.enabled;
     }
 
     @Override
     public void setEventPublishingEnabled(boolean enabled) {
-        synchronized (LOCK) {
-            this.enabled = enabled;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void suspendEventPublishingOnCurrentThread() {
+        int[] count = suspensions.get();
+        if (count == null) {
+            count = new int[1];
+            suspensions.set(count);
+        }
+        if (count[0]++ == 0) {
+            suspendedThreads.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void resumeEventPublishingOnCurrentThread() {
+        int[] count = suspensions.get();
+        requireState(count != null && count[0] > 0, "Event publishing is not suspended on the current thread");
+        if (--count[0] == 0) {
+            suspensions.remove();
+            suspendedThreads.decrementAndGet();
         }
     }
 
+    /**
+     * Returns whether events published by the current thread should be delivered, taking into
+     * account both the global enabled state and suspensions made by the current thread.
+     *
+     * @since 2.9.0
+     */
+    protected boolean isEventPublishingEnabledOnCurrentThread() {
+        if (!enabled) {
+            return false;
+        }
+        return suspendedThreads.get() == 0 || suspensions.get() == null;
+    }
+
     @Override
     public void publishEvent(@Nonnull String eventName) {
         publishEvent(eventName, EMPTY_LIST);
@@ -132,7 +355,7 @@ public abstract class AbstractEventRouter implements EventRouter {
 
     @Override
     public void publishEvent(@Nonnull String eventName, @Nullable List<?> params) {
-        if (!isEventPublishingEnabled()) return;
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) params = EMPTY_LIST;
         buildPublisher(eventName, params, "synchronously").run();
@@ -145,7 +368,7 @@ public abstract class AbstractEventRouter implements EventRouter {
 
     @Override
     public void publishEventOutsideUI(@Nonnull String eventName, @Nullable List<?> params) {
-        if (!isEventPublishingEnabled()) return;
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) params = EMPTY_LIST;
         final Runnable publisher = buildPublisher(eventName, params, "outside UI");
@@ -161,15 +384,26 @@ public abstract class AbstractEventRouter implements EventRouter {
 
     @Override
     public void publishEventAsync(@Nonnull String eventName, @Nullable List<?> params) {
-        if (!isEventPublishingEnabled()) return;
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         if (params == null) params = EMPTY_LIST;
         final Runnable publisher = buildPublisher(eventName, params, "asynchronously");
-        doPublishAsync(publisher);
+        doPublishAsync(capitalize(eventName), publisher);
     }
 
     protected abstract void doPublishAsync(@Nonnull Runnable publisher);
 
+    /**
+     * Publishes an event asynchronously. Subclasses may use the event name to order deliveries.
+     *
+     * @param eventName the capitalized name of the event
+     * @param publisher the event publisher
+     * @since 2.9.0
+     */
+    protected void doPublishAsync(@Nonnull String eventName, @Nonnull Runnable publisher) {
+        doPublishAsync(publisher);
+    }
+
     @Override
     public void publishEvent(@Nonnull Event event) {
         requireNonNull(event, ERROR_EVENT_NULL);
@@ -188,6 +422,107 @@ public abstract class AbstractEventRouter implements EventRouter {
         publishEventAsync(event.getClass().getSimpleName(), asList(event));
     }
 
+    @Override
+    public void publishTypedEvent(@Nonnull Event event) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
+        dispatchTypedEvent(event, "synchronously");
+    }
+
+    @Override
+    public void publishTypedEventOutsideUI(@Nonnull Event event) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
+        doPublishOutsideUI(buildTypedPublisher(event, "outside UI"));
+    }
+
+    @Override
+    public void publishTypedEventAsync(@Nonnull Event event) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!isEventPublishingEnabledOnCurrentThread()) return;
+        doPublishAsync(event.getClass().getName(), buildTypedPublisher(event, "asynchronously"));
+    }
+
+    @Override
+    public <E extends Event> void addTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull RunnableWithArgs listener) {
+        requireNonNull(eventClass, ERROR_EVENT_CLASS_NULL);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (addToSnapshot(typedListeners, eventClass, listener)) {
+            typedListenersVersion.incrementAndGet();
+            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), eventClass.getName());
+        }
+    }
+
+    @Override
+    public <E extends Event> void removeTypedEventListener(@Nonnull Class<E> eventClass, @Nonnull RunnableWithArgs listener) {
+        requireNonNull(eventClass, ERROR_EVENT_CLASS_NULL);
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (removeFromSnapshot(typedListeners, eventClass, listener)) {
+            typedListenersVersion.incrementAndGet();
+            LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventClass.getName());
+        }
+    }
+
+    @Override
+    public void addTypedEventListener(@Nonnull Object listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (isFunctionalListener(listener) || listener instanceof Map) {
+            throw new IllegalArgumentException("Cannot add a typed event listener of type " + listener.getClass().getName() +
+                " because the target event type is missing. " + listener);
+        }
+
+        boolean added = false;
+        for (TypedHandler handler : typedHandlersOf(listener)) {
+            added |= addToSnapshot(typedListeners, handler.eventClass, handler);
+        }
+
+        if (added) {
+            typedListenersVersion.incrementAndGet();
+            LOG.debug("Adding typed listener {}", listener.getClass().getName());
+        }
+    }
+
+    @Override
+    public void removeTypedEventListener(@Nonnull Object listener) {
+        requireNonNull(listener, ERROR_LISTENER_NULL);
+        if (isFunctionalListener(listener) || listener instanceof Map) {
+            throw new IllegalArgumentException("Cannot remove a typed event listener of type " + listener.getClass().getName() +
+                " because the target event type is missing. " + listener);
+        }
+
+        if (removeTypedHandlers(listener)) {
+            LOG.debug("Removing typed listener {}", listener.getClass().getName());
+        }
+    }
+
+    private boolean removeTypedHandlers(@Nonnull Object listener) {
+        boolean removed = false;
+        for (TypedHandler handler : typedHandlersOf(listener)) {
+            removed |= removeFromSnapshot(typedListeners, handler.eventClass, handler);
+        }
+        if (removed) {
+            typedListenersVersion.incrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * Wraps every public {@code onXxx} method of the given bean that takes a single {@code Event} argument.
+     */
+    @Nonnull
+    private List<TypedHandler> typedHandlersOf(@Nonnull Object listener) {
+        List<TypedHandler> handlers = new ArrayList<>();
+        for (List<MethodInfo> infos : methodCache.getMethodMetadata(listener.getClass()).values()) {
+            for (MethodInfo info : infos) {
+                Class<?>[] parameterTypes = info.getMethod().getParameterTypes();
+                if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
+                    handlers.add(new TypedHandler(listener, parameterTypes[0], info));
+                }
+            }
+        }
+        return handlers;
+    }
+
     @Override
     public <E extends Event> void removeEventListener(@Nonnull Class<E> eventClass, @Nonnull CallableWithArgs<?> listener) {
         requireNonNull(eventClass, ERROR_EVENT_CLASS_NULL);
@@ -217,12 +552,29 @@ public abstract class AbstractEventRouter implements EventRouter {
         requireNonBlank(eventHandler, ERROR_EVENT_HANDLER_BLANK);
         requireNonNull(params, ERROR_PARAMS_NULL);
 
-        Class[] argTypes = convertToTypeArray(asArray(params));
-        MethodDescriptor target = new MethodDescriptor(eventHandler, argTypes);
-        Method method = methodCache.findMatchingMethodFor(instance.getClass(), target);
+        Object[] args = asArray(params);
+        MethodInfo handler = methodCache.findMatchingHandlerFor(instance.getClass(), eventHandler, args);
 
-        if (method != null) {
-            MethodUtils.invokeSafe(method, instance, asArray(params));
+        if (handler != null) {
+            invokeHandler(handler, instance, args);
+        }
+    }
+
+    /**
+     * Invokes an event handler method of a bean listener. Failures are reported to the
+     * {@code ExceptionHandler} so that the remaining listeners are still notified.
+     */
+    private void invokeHandler(@Nonnull MethodInfo handler, @Nonnull Object instance, @Nonnull Object[] args) {
+        try {
+            handler.invoke(instance, args);
+        } catch (InstanceMethodInvocationException e) {
+            Thread thread = Thread.currentThread();
+            ExceptionHandler exceptionHandler = getExceptionHandler();
+            if (exceptionHandler != null) {
+                exceptionHandler.uncaughtException(thread, e);
+            } else {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
         }
     }
 
@@ -261,19 +613,9 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean added = false;
-        for (String eventName : methodCache.fetchMethodMetadata(listener.getClass()).keySet()) {
+        for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
             eventName = eventName.substring(2); // cut off "on" from the name
-            List<Object> instances = instanceListeners.get(eventName);
-            if (instances == null) {
-                instances = new ArrayList<>();
-                instanceListeners.put(eventName, instances);
-            }
-            synchronized (instances) {
-                if (!instances.contains(listener)) {
-                    added = true;
-                    instances.add(listener);
-                }
-            }
+            added |= addListener(eventName, listener);
         }
 
         if (added) {
@@ -319,18 +661,12 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean removed = false;
-        for (String eventName : methodCache.fetchMethodMetadata(listener.getClass()).keySet()) {
+        for (String eventName : methodCache.getMethodMetadata(listener.getClass()).keySet()) {
             eventName = eventName.substring(2); // cut off "on" from the name
-            List<Object> instances = instanceListeners.get(eventName);
-            if (instances != null && instances.contains(listener)) {
-                instances.remove(listener);
-                removed = true;
-                if (instances.isEmpty()) {
-                    instanceListeners.remove(eventName);
-                }
-            }
+            removed |= removeListener(eventName, listener);
         }
 
+        removed |= removeTypedHandlers(listener);
         boolean nestedRemoved = removeNestedListeners(listener);
 
         if (removed || nestedRemoved) {
@@ -361,15 +697,9 @@ public abstract class AbstractEventRouter implements EventRouter {
     public void addEventListener(@Nonnull String eventName, @Nonnull CallableWithArgs<?> listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list == null) {
-                list = new ArrayList<>();
-                functionalListeners.put(capitalize(eventName), list);
-            }
-            if (list.contains(listener)) return;
-            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-            list.add(listener);
+        eventName = capitalize(eventName);
+        if (addListener(eventName, listener)) {
+            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), eventName);
         }
     }
 
@@ -377,15 +707,9 @@ public abstract class AbstractEventRouter implements EventRouter {
     public void addEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list == null) {
-                list = new ArrayList<>();
-                functionalListeners.put(capitalize(eventName), list);
-            }
-            if (list.contains(listener)) return;
-            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-            list.add(listener);
+        eventName = capitalize(eventName);
+        if (addListener(eventName, listener)) {
+            LOG.debug("Adding listener {} on {}", listener.getClass().getName(), eventName);
         }
     }
 
@@ -393,12 +717,9 @@ public abstract class AbstractEventRouter implements EventRouter {
     public void removeEventListener(@Nonnull String eventName, @Nonnull CallableWithArgs<?> listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list != null) {
-                LOG.debug("Removing listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-                list.remove(listener);
-            }
+        eventName = capitalize(eventName);
+        if (removeListener(eventName, listener)) {
+            LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventName);
         }
     }
 
@@ -406,46 +727,50 @@ public abstract class AbstractEventRouter implements EventRouter {
     public void removeEventListener(@Nonnull String eventName, @Nonnull RunnableWithArgs listener) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
         requireNonNull(listener, ERROR_LISTENER_NULL);
-        synchronized (functionalListeners) {
-            List<Object> list = functionalListeners.get(capitalize(eventName));
-            if (list != null) {
-                LOG.debug("Removing listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-                list.remove(listener);
-            }
+        eventName = capitalize(eventName);
+        if (removeListener(eventName, listener)) {
+            LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventName);
         }
     }
 
     @Nonnull
     @Override
     public Collection<Object> getEventListeners() {
-        List<Object> listeners = new ArrayList<>();
-        synchronized (instanceListeners) {
-            Set<Object> instances = new HashSet<>();
-            for (List<Object> objects : instanceListeners.values()) {
-                instances.addAll(objects);
+        List<Object> functional = new ArrayList<>();
+        Set<Object> instances = new LinkedHashSet<>();
+        for (Object[] snapshot : listeners.values()) {
+            for (Object listener : snapshot) {
+                if (isFunctionalListener(listener)) {
+                    functional.add(listener);
+                } else {
+                    instances.add(listener);
+                }
             }
-            listeners.addAll(instances);
         }
 
-        synchronized (functionalListeners) {
-            for (List<Object> objects : functionalListeners.values()) {
-                listeners.addAll(objects);
+        for (Object[] snapshot : typedListeners.values()) {
+            for (Object listener : snapshot) {
+                if (listener instanceof TypedHandler) {
+                    instances.add(((TypedHandler) listener).listener);
+                } else {
+                    functional.add(listener);
+                }
             }
         }
+        for (Object[] snapshot : batchListeners.values()) {
+            functional.addAll(asList(snapshot));
+        }
 
-        return unmodifiableCollection(listeners);
+        List<Object> result = new ArrayList<>(instances);
+        result.addAll(functional);
+        return unmodifiableCollection(result);
     }
 
     @Nonnull
     @Override
     public Collection<Object> getEventListeners(@Nonnull String eventName) {
         requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
-        List<Object> listeners = new ArrayList<>();
-        List<Object> instances = instanceListeners.get(eventName);
-        if (instances != null) listeners.addAll(instances);
-        instances = functionalListeners.get(eventName);
-        if (instances != null) listeners.addAll(instances);
-        return unmodifiableCollection(listeners);
+        return unmodifiableCollection(asList(snapshotOf(eventName)));
     }
 
     protected Runnable buildPublisher(@Nonnull final String event, @Nonnull final List<?> params, @Nonnull final String mode) {
@@ -457,22 +782,8 @@ public abstract class AbstractEventRouter implements EventRouter {
                 String eventName = capitalize(event);
                 LOG.debug("Triggering event '{}' {}", eventName, mode);
                 String eventHandler = "on" + eventName;
-                // defensive copying to avoid CME during event dispatching
-                List<Object> listenersCopy = new ArrayList<>();
-                List<Object> instances = instanceListeners.get(eventName);
-                if (instances != null) {
-                    listenersCopy.addAll(instances);
-                }
-                synchronized (functionalListeners) {
-                    List list = functionalListeners.get(eventName);
-                    if (list != null) {
-                        for (Object listener : list) {
-                            listenersCopy.add(listener);
-                        }
-                    }
-                }
-
-                for (Object listener : listenersCopy) {
+                // snapshots are never mutated, no defensive copying required
+                for (Object listener : snapshotOf(eventName)) {
                     if (listener instanceof RunnableWithArgs) {
                         fireEvent((RunnableWithArgs) listener, params);
                     } else if (listener instanceof CallableWithArgs) {
@@ -485,24 +796,103 @@ public abstract class AbstractEventRouter implements EventRouter {
         };
     }
 
+    @Nonnull
+    protected Runnable buildTypedPublisher(@Nonnull final Event event, @Nonnull final String mode) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        requireNonBlank(mode, ERROR_MODE_BLANK);
+        return new Runnable() {
+            public void run() {
+                dispatchTypedEvent(event, mode);
+            }
+        };
+    }
+
+    protected void dispatchTypedEvent(@Nonnull Event event, @Nonnull String mode) {
+        LOG.debug("Triggering event '{}' {}", event.getClass().getName(), mode);
+        for (Object listener : resolveTypedListeners(event.getClass())) {
+            ((RunnableWithArgs) listener).run(event);
+        }
+    }
+
+    /**
+     * Returns all typed listeners that apply to the given concrete event class, including those
+     * registered for any of its supertypes. Results are cached per class until typed listeners change.
+     *
+     * @param eventClass the concrete class of an event
+     * @return an immutable snapshot of matching listeners, never {@code null}.
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Object[] resolveTypedListeners(@Nonnull Class<?> eventClass) {
+        int version = typedListenersVersion.get();
+        AtomicReference<TypedListeners> holder = resolvedTypedListeners.get(eventClass);
+        TypedListeners resolved = holder.get();
+        if (resolved != null && resolved.version == version) {
+            return resolved.listeners;
+        }
+
+        Set<Object> matches = new LinkedHashSet<>();
+        for (Class<?> type : typeHierarchyOf(eventClass)) {
+            Object[] snapshot = typedListeners.get(type);
+            if (snapshot != null) {
+                matches.addAll(asList(snapshot));
+            }
+        }
+
+        // a concurrent registration bumps the version, forcing the next lookup to resolve again
+        resolved = new TypedListeners(version, matches.isEmpty() ? NO_LISTENERS : matches.toArray());
+        holder.set(resolved);
+        return resolved.listeners;
+    }
+
+    @Nonnull
+    private static Set<Class<?>> typeHierarchyOf(@Nonnull Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            hierarchy.add(c);
+        }
+        List<Class<?>> pending = new ArrayList<>(hierarchy);
+        for (int i = 0; i < pending.size(); i++) {
+            for (Class<?> iface : pending.get(i).getInterfaces()) {
+                if (hierarchy.add(iface)) {
+                    pending.add(iface);
+                }
+            }
+        }
+        return hierarchy;
+    }
+
     protected boolean removeNestedListeners(@Nonnull Object owner) {
         requireNonNull(owner, ERROR_OWNER_NULL);
 
         boolean removed = false;
-        synchronized (functionalListeners) {
-            for (Map.Entry<String, List<Object>> event : functionalListeners.entrySet()) {
-                String eventName = event.getKey();
-                List<Object> listenerList = event.getValue();
-                List<Object> toRemove = new ArrayList<>();
-                for (Object listener : listenerList) {
-                    if (isNestedListener(listener, owner)) {
-                        toRemove.add(listener);
-                    }
+        for (Map.Entry<String, Object[]> event : listeners.entrySet()) {
+            String eventName = event.getKey();
+            for (Object listener : event.getValue()) {
+                if (isFunctionalListener(listener) && isNestedListener(listener, owner) && removeListener(eventName, listener)) {
+                    LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventName);
+                    removed = true;
                 }
-                removed = toRemove.size() > 0;
-                for (Object listener : toRemove) {
-                    LOG.debug("Removing listener {} on {}", listener.getClass().getName(), capitalize(eventName));
-                    listenerList.remove(listener);
+            }
+        }
+
+        for (Map.Entry<String, Object[]> event : batchListeners.entrySet()) {
+            String eventName = event.getKey();
+            for (Object listener : event.getValue()) {
+                if (isNestedListener(listener, owner) && removeFromSnapshot(batchListeners, eventName, listener)) {
+                    LOG.debug("Removing batch listener {} on {}", listener.getClass().getName(), eventName);
+                    removed = true;
+                }
+            }
+        }
+
+        for (Map.Entry<Class<?>, Object[]> event : typedListeners.entrySet()) {
+            Class<?> eventClass = event.getKey();
+            for (Object listener : event.getValue()) {
+                if (isNestedListener(listener, owner) && removeFromSnapshot(typedListeners, eventClass, listener)) {
+                    typedListenersVersion.incrementAndGet();
+                    LOG.debug("Removing listener {} on {}", listener.getClass().getName(), eventClass.getName());
+                    removed = true;
                 }
             }
         }
@@ -510,6 +900,119 @@ public abstract class AbstractEventRouter implements EventRouter {
         return removed;
     }
 
+    /**
+     * Returns the current listener snapshot for the given event name. The returned array must not be modified.
+     *
+     * @param eventName the name of the event
+     * @return an immutable snapshot of registered listeners, never {@code null}.
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Object[] snapshotOf(@Nonnull String eventName) {
+        return snapshotOf(listeners, eventName);
+    }
+
+    @Nonnull
+    private static <K> Object[] snapshotOf(@Nonnull ConcurrentMap<K, Object[]> snapshots, @Nonnull K key) {
+        Object[] snapshot = snapshots.get(key);
+        return snapshot != null ? snapshot : NO_LISTENERS;
+    }
+
+    /**
+     * Registers a listener by atomically swapping the snapshot of the given event name.
+     * Bean listeners are placed ahead of functional listeners, each kind in registration order,
+     * so listeners are notified in the same order as they were before snapshots were introduced.
+     *
+     * @param eventName the name of the event
+     * @param listener  the listener to add
+     * @return true if the listener was added, false if it was already registered.
+     * @since 2.9.0
+     */
+    protected boolean addListener(@Nonnull String eventName, @Nonnull Object listener) {
+        return addToSnapshot(listeners, eventName, listener);
+    }
+
+    /**
+     * Unregisters a listener by atomically swapping the snapshot of the given event name.
+     *
+     * @param eventName the name of the event
+     * @param listener  the listener to remove
+     * @return true if the listener was removed, false if it was not registered.
+     * @since 2.9.0
+     */
+    protected boolean removeListener(@Nonnull String eventName, @Nonnull Object listener) {
+        return removeFromSnapshot(listeners, eventName, listener);
+    }
+
+    private static <K> boolean addToSnapshot(@Nonnull ConcurrentMap<K, Object[]> snapshots, @Nonnull K key, @Nonnull Object listener) {
+        while (true) {
+            Object[] current = snapshots.get(key);
+            if (current == null) {
+                if (snapshots.putIfAbsent(key, new Object[]{listener}) == null) {
+                    return true;
+                }
+            } else {
+                if (indexOf(current, listener) > -1) {
+                    return false;
+                }
+                int index = insertionIndex(current, listener);
+                Object[] updated = new Object[current.length + 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                updated[index] = listener;
+                System.arraycopy(current, index, updated, index + 1, current.length - index);
+                if (snapshots.replace(key, current, updated)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static <K> boolean removeFromSnapshot(@Nonnull ConcurrentMap<K, Object[]> snapshots, @Nonnull K key, @Nonnull Object listener) {
+        while (true) {
+            Object[] current = snapshots.get(key);
+            int index = current != null ? indexOf(current, listener) : -1;
+            if (index < 0) {
+                return false;
+            }
+            if (current.length == 1) {
+                if (snapshots.remove(key, current)) {
+                    return true;
+                }
+            } else {
+                Object[] updated = new Object[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+                if (snapshots.replace(key, current, updated)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static int insertionIndex(@Nonnull Object[] snapshot, @Nonnull Object listener) {
+        if (!isFunctionalListener(listener)) {
+            for (int i = 0; i < snapshot.length; i++) {
+                if (isFunctionalListener(snapshot[i])) {
+                    return i;
+                }
+            }
+        }
+        return snapshot.length;
+    }
+
+    private static int indexOf(@Nonnull Object[] snapshot, @Nonnull Object listener) {
+        for (int i = 0; i < snapshot.length; i++) {
+            if (listener.equals(snapshot[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isFunctionalListener(@Nonnull Object listener) {
+        return listener instanceof RunnableWithArgs || listener instanceof CallableWithArgs;
+    }
+
     protected boolean isNestedListener(@Nonnull Object listener, @Nonnull Object owner) {
         requireNonNull(listener, ERROR_LISTENER_NULL);
         requireNonNull(owner, ERROR_OWNER_NULL);
@@ -523,6 +1026,50 @@ public abstract class AbstractEventRouter implements EventRouter {
         return list.toArray(new Object[list.size()]);
     }
 
+    /**
+     * Adapts a typed event handler method of a Java bean listener. Two handlers are equal when they
+     * wrap the same method of equal listeners, which lets beans be removed by value.
+     */
+    private final class TypedHandler implements RunnableWithArgs {
+        private final Object listener;
+        private final Class<?> eventClass;
+        private final MethodInfo handler;
+
+        private TypedHandler(@Nonnull Object listener, @Nonnull Class<?> eventClass, @Nonnull MethodInfo handler) {
+            this.listener = listener;
+            this.eventClass = eventClass;
+            this.handler = handler;
+        }
+
+        @Override
+        public void run(@Nullable Object... args) {
+            invokeHandler(handler, listener, args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TypedHandler that = (TypedHandler) o;
+            return listener.equals(that.listener) && handler.getMethod().equals(that.handler.getMethod());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * listener.hashCode() + handler.getMethod().hashCode();
+        }
+    }
+
+    private static final class TypedListeners {
+        private final int version;
+        private final Object[] listeners;
+
+        private TypedListeners(int version, @Nonnull Object[] listeners) {
+            this.version = version;
+            this.listeners = listeners;
+        }
+    }
+
     protected static class MethodCache {
         private final Map<Class<?>, Map<String, List<MethodInfo>>> methodMap = new ConcurrentHashMap<>();
 
@@ -555,6 +1102,38 @@ public abstract class AbstractEventRouter implements EventRouter {
             return null;
         }
 
+        /**
+         * Finds the first event handler whose arity and parameter types accept the given arguments.
+         * Handlers are resolved once per listener class; this lookup performs no reflection.
+         *
+         * @since 2.9.0
+         */
+        @Nullable
+        public MethodInfo findMatchingHandlerFor(@Nonnull Class<?> klass, @Nonnull String eventHandler, @Nonnull Object[] args) {
+            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
+            if (methodMetadata == null) {
+                return null;
+            }
+
+            List<MethodInfo> handlers = methodMetadata.get(eventHandler);
+            if (handlers != null) {
+                for (int i = 0; i < handlers.size(); i++) {
+                    MethodInfo info = handlers.get(i);
+                    if (info.accepts(args)) {
+                        return info;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        @Nonnull
+        private Map<String, List<MethodInfo>> getMethodMetadata(@Nonnull Class<?> klass) {
+            Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
+            return methodMetadata != null ? methodMetadata : fetchMethodMetadata(klass);
+        }
+
         private Map<String, List<MethodInfo>> fetchMethodMetadata(Class<?> klass) {
             Map<String, List<MethodInfo>> methodMetadata = new LinkedHashMap<>();
 
@@ -578,10 +1157,25 @@ public abstract class AbstractEventRouter implements EventRouter {
     protected static class MethodInfo {
         private final MethodDescriptor descriptor;
         private final Method method;
+        private final boolean dispatchable;
+        private final Class<?>[] argumentTypes;
+        private final boolean[] primitives;
+        private final MethodHandle invoker;
 
         public MethodInfo(MethodDescriptor descriptor, Method method) {
             this.descriptor = descriptor;
             this.method = method;
+
+            // event handlers are matched against public, non-final, non-static descriptors only
+            this.dispatchable = method.getModifiers() == Modifier.PUBLIC;
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            this.argumentTypes = new Class<?>[parameterTypes.length];
+            this.primitives = new boolean[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                primitives[i] = parameterTypes[i].isPrimitive();
+                argumentTypes[i] = primitives[i] ? PRIMITIVE_TYPE_COMPATIBLE_CLASSES.get(parameterTypes[i]) : parameterTypes[i];
+            }
+            this.invoker = dispatchable ? compile(method) : null;
         }
 
         public MethodDescriptor getDescriptor() {
@@ -591,6 +1185,65 @@ public abstract class AbstractEventRouter implements EventRouter {
         public Method getMethod() {
             return method;
         }
+
+        /**
+         * Arity and type guard. Arguments are matched against the boxed parameter types
+         * of the handler; {@code null} is accepted by any non-primitive parameter.
+         *
+         * @param args the event arguments
+         * @return true if this handler can be invoked with the given arguments
+         * @since 2.9.0
+         */
+        public boolean accepts(@Nonnull Object[] args) {
+            if (!dispatchable || args.length != argumentTypes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                if (arg == null ? primitives[i] : !argumentTypes[i].isInstance(arg)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Invokes this handler on the given instance.
+         *
+         * @param instance the listener
+         * @param args     the event arguments
+         * @throws InstanceMethodInvocationException if the handler could not be invoked or failed
+         * @since 2.9.0
+         */
+        public void invoke(@Nonnull Object instance, @Nonnull Object[] args) {
+            try {
+                if (invoker != null) {
+                    invoker.invokeExact(instance, args);
+                } else {
+                    method.invoke(instance, args);
+                }
+            } catch (InvocationTargetException e) {
+                throw new InstanceMethodInvocationException(instance, method, e.getTargetException());
+            } catch (Throwable t) {
+                throw new InstanceMethodInvocationException(instance, method, t);
+            }
+        }
+
+        @Nullable
+        private static MethodHandle compile(@Nonnull Method method) {
+            int arity = method.getParameterTypes().length;
+            try {
+                return MethodHandles.publicLookup().unreflect(method)
+                    .asType(MethodType.genericMethodType(arity + 1).changeReturnType(void.class))
+                    .asSpreader(Object[].class, arity);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fallback to reflective invocation
+                LOG.trace("Could not compile event handler {}", method, e);
+                return null;
+            }
+        }
     }
 
     private static class DefaultThreadFactory implements ThreadFactory {
@@ -599,10 +1252,14 @@ public abstract class AbstractEventRouter implements EventRouter {
         private final String namePrefix;
 
         private DefaultThreadFactory(int eventRouterId) {
+            this(eventRouterId, "thread");
+        }
+
+        private DefaultThreadFactory(int eventRouterId, String kind) {
             SecurityManager s = System.getSecurityManager();
             group = (s != null) ? s.getThreadGroup() :
                 Thread.currentThread().getThreadGroup();
-            namePrefix = "event-router-" + eventRouterId + "-thread-";
+            namePrefix = "event-router-" + eventRouterId + "-" + kind + "-";
         }
 
         public Thread newThread(Runnable r) {
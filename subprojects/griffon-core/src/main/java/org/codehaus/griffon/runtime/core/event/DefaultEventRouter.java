@@ -15,12 +15,15 @@
  */
 package org.codehaus.griffon.runtime.core.event;
 
+import griffon.core.event.OverflowPolicy;
 import griffon.core.threading.UIThreadManager;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -31,6 +34,7 @@ public class DefaultEventRouter extends AbstractEventRouter {
     private final BlockingQueue<Runnable> deferredEvents = new LinkedBlockingQueue<>();
     private static final String ERROR_PUBLISHER_NULL = "Argument 'publisher' must not be null";
     private UIThreadManager uiThreadManager;
+    private volatile OrderedEventDispatcher orderedEventDispatcher;
 
     @Inject
     public void setUIThreadManager(@Nonnull UIThreadManager uiThreadManager) {
@@ -47,6 +51,50 @@ public class DefaultEventRouter extends AbstractEventRouter {
     }
 
     protected void doPublishAsync(@Nonnull Runnable publisher) {
-        executorService.submit(publisher);
+        getExecutorService().submit(publisher);
+    }
+
+    @Override
+    protected void doPublishAsync(@Nonnull String eventName, @Nonnull Runnable publisher) {
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        OrderedEventDispatcher dispatcher = orderedEventDispatcher;
+        if (dispatcher != null) {
+            dispatcher.dispatch(eventName, publisher);
+        } else {
+            doPublishAsync(publisher);
+        }
+    }
+
+    /**
+     * Delivers asynchronous events in publication order per event name, keeping at most
+     * {@code capacity} pending events per event name.
+     *
+     * @param capacity       the maximum number of pending events per event name
+     * @param overflowPolicy what to do when an event name has reached its capacity
+     * @since 2.9.0
+     */
+    public void enableOrderedAsyncDelivery(int capacity, @Nonnull OverflowPolicy overflowPolicy) {
+        orderedEventDispatcher = new OrderedEventDispatcher(getExecutorService(), capacity, overflowPolicy, 0L, TimeUnit.MILLISECONDS, getExceptionHandler());
+    }
+
+    /**
+     * Reverts asynchronous event delivery to unordered, unbounded submission. Pending ordered
+     * events are still delivered.
+     *
+     * @since 2.9.0
+     */
+    public void disableOrderedAsyncDelivery() {
+        orderedEventDispatcher = null;
+    }
+
+    /**
+     * Returns the dispatcher used for ordered asynchronous delivery, exposing queue depth metrics.
+     *
+     * @return the current dispatcher or {@code null} if ordered delivery is not enabled.
+     * @since 2.9.0
+     */
+    @Nullable
+    public OrderedEventDispatcher getOrderedEventDispatcher() {
+        return orderedEventDispatcher;
     }
 }
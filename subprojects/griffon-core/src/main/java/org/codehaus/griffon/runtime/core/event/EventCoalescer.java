@@ -0,0 +1,190 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects events published within a time window and hands them over as a single unit.<p>
+ * Within a window, events with the same name and coalescing key replace each other, keeping
+ * only the latest arguments. When batch listeners are present as the window opens, the arguments
+ * of every event are also kept in publication order so they can be delivered as a batch. Batch
+ * listeners are captured once per window, which guarantees each of them sees either every event
+ * of a window or none of them.<p>
+ * If the scheduler rejects a window, for example because it has been shut down, the window is
+ * flushed right away on the publishing thread instead.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public class EventCoalescer {
+    private static final String ERROR_EVENT_NAME_BLANK = "Argument 'eventName' must not be blank";
+    private static final Object[] NO_LISTENERS = new Object[0];
+
+    /**
+     * Receives the contents of a window once it closes.
+     */
+    public interface Sink {
+        /**
+         * @param eventName the name of the event
+         * @param latest    the latest arguments per coalescing key, in order of first appearance
+         * @param batch          the arguments of every event in publication order, empty if not recorded
+         * @param batchListeners the batch listeners captured when the window opened, never {@code null}
+         */
+        void flush(@Nonnull String eventName, @Nonnull Collection<List<?>> latest, @Nonnull List<List<?>> batch, @Nonnull Object[] batchListeners);
+    }
+
+    private final ScheduledExecutorService scheduler;
+    private final Sink sink;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private volatile long windowMillis;
+
+    public EventCoalescer(@Nonnull ScheduledExecutorService scheduler, @Nonnull Sink sink, long windowMillis) {
+        this.scheduler = requireNonNull(scheduler, "Argument 'scheduler' must not be null");
+        this.sink = requireNonNull(sink, "Argument 'sink' must not be null");
+        setWindow(windowMillis);
+    }
+
+    public long getWindow() {
+        return windowMillis;
+    }
+
+    public void setWindow(long windowMillis) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException("Argument 'windowMillis' must not be negative. Was " + windowMillis);
+        }
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Returns the number of events waiting for their window to close.
+     */
+    public int getPendingEventCount() {
+        int count = 0;
+        for (Window window : windows.values()) {
+            count += window.count();
+        }
+        return count;
+    }
+
+    /**
+     * Adds an event to the current window of its name, opening a new window if needed.
+     *
+     * @param eventName     the name of the event
+     * @param coalescingKey events with equal keys replace each other; may be {@code null}
+     * @param args           the event arguments
+     * @param batchListeners the current batch listeners of the event; only read if a new window is opened
+     */
+    public void publish(@Nonnull String eventName, @Nullable Object coalescingKey, @Nonnull List<?> args, @Nullable Object[] batchListeners) {
+        requireNonBlank(eventName, ERROR_EVENT_NAME_BLANK);
+        requireNonNull(args, "Argument 'args' must not be null");
+
+        while (true) {
+            boolean rejected = false;
+            Window window = windows.get(eventName);
+            if (window == null) {
+                window = new Window(eventName, batchListeners != null ? batchListeners : NO_LISTENERS);
+                Window existing = windows.putIfAbsent(eventName, window);
+                if (existing != null) {
+                    window = existing;
+                } else {
+                    try {
+                        scheduler.schedule(window, windowMillis, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (window.add(coalescingKey, args)) {
+                if (rejected) {
+                    // nothing else would ever close this window
+                    window.run();
+                }
+                return;
+            }
+            // window closed concurrently, try again with a fresh one
+        }
+    }
+
+    private final class Window implements Runnable {
+        private final String eventName;
+        private final Object[] batchListeners;
+        @GuardedBy("this")
+        private final Map<Object, List<?>> latest = new LinkedHashMap<>();
+        @GuardedBy("this")
+        private List<List<?>> batch;
+        @GuardedBy("this")
+        private int count;
+        @GuardedBy("this")
+        private boolean closed;
+
+        private Window(@Nonnull String eventName, @Nonnull Object[] batchListeners) {
+            this.eventName = eventName;
+            this.batchListeners = batchListeners;
+        }
+
+        private synchronized boolean add(@Nullable Object coalescingKey, @Nonnull List<?> args) {
+            if (closed) {
+                return false;
+            }
+            // keys keep the position of their first appearance
+            latest.put(coalescingKey, args);
+            if (batchListeners.length > 0) {
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                }
+                batch.add(args);
+            }
+            count++;
+            return true;
+        }
+
+        private synchronized int count() {
+            return count;
+        }
+
+        @Override
+        public void run() {
+            windows.remove(eventName, this);
+            Collection<List<?>> values;
+            List<List<?>> events;
+            synchronized (this) {
+                closed = true;
+                values = unmodifiableCollection(latest.values());
+                events = batch != null ? unmodifiableList(batch) : Collections.<List<?>>emptyList();
+            }
+            sink.flush(eventName, values, events, batchListeners);
+        }
+    }
+}
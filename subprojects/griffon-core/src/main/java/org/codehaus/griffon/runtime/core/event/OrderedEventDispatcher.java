@@ -0,0 +1,352 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import griffon.core.event.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Delivers asynchronous events in FIFO order per lane (usually one lane per event name).<p>
+ * Each lane holds a bounded ring buffer; when the buffer is full the configured {@code OverflowPolicy}
+ * is applied. Lanes do not own threads, they are drained by the supplied {@code ExecutorService}
+ * with at most one task per lane at any given time.<p>
+ * With {@code OverflowPolicy.BLOCK} a thread that is draining a lane never waits for room in a lane,
+ * as it could be holding the last pool thread able to drain it; the task is rejected instead. Other
+ * threads wait, optionally bounded by a timeout.<p>
+ * Exceptions thrown by tasks are reported to the supplied exception handler, or to the draining
+ * thread's handler when none was supplied.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public class OrderedEventDispatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(OrderedEventDispatcher.class);
+    private static final String ERROR_LANE_BLANK = "Argument 'lane' must not be blank";
+    private static final String ERROR_TASK_NULL = "Argument 'task' must not be null";
+    // set while the current thread drains a lane of any dispatcher
+    private static final ThreadLocal<Boolean> DRAINING = new ThreadLocal<>();
+
+    private final ExecutorService executorService;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Thread.UncaughtExceptionHandler exceptionHandler;
+    private final ConcurrentMap<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong coalescedEvents = new AtomicLong();
+    private final AtomicLong rejectedEvents = new AtomicLong();
+
+    public OrderedEventDispatcher(@Nonnull ExecutorService executorService, int capacity, @Nonnull OverflowPolicy overflowPolicy) {
+        this(executorService, capacity, overflowPolicy, 0L, TimeUnit.MILLISECONDS, null);
+    }
+
+    public OrderedEventDispatcher(@Nonnull ExecutorService executorService, int capacity, @Nonnull OverflowPolicy overflowPolicy, long blockTimeout, @Nonnull TimeUnit unit) {
+        this(executorService, capacity, overflowPolicy, blockTimeout, unit, null);
+    }
+
+    /**
+     * @param executorService  the executor that drains lanes
+     * @param capacity         the maximum number of pending tasks per lane
+     * @param overflowPolicy   what to do when a lane is full
+     * @param blockTimeout     how long a publisher may wait for room when the policy is {@code BLOCK};
+     *                         {@code 0} waits for as long as needed
+     * @param unit             the unit of {@code blockTimeout}
+     * @param exceptionHandler receives exceptions thrown by tasks; the draining thread's handler is
+     *                         used when {@code null}
+     */
+    public OrderedEventDispatcher(@Nonnull ExecutorService executorService, int capacity, @Nonnull OverflowPolicy overflowPolicy, long blockTimeout, @Nonnull TimeUnit unit, @Nullable Thread.UncaughtExceptionHandler exceptionHandler) {
+        this.executorService = requireNonNull(executorService, "Argument 'executorService' must not be null");
+        this.overflowPolicy = requireNonNull(overflowPolicy, "Argument 'overflowPolicy' must not be null");
+        requireNonNull(unit, "Argument 'unit' must not be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Argument 'capacity' must be greater than zero. Was " + capacity);
+        }
+        if (blockTimeout < 0) {
+            throw new IllegalArgumentException("Argument 'blockTimeout' must not be negative. Was " + blockTimeout);
+        }
+        this.capacity = capacity;
+        this.blockTimeoutNanos = unit.toNanos(blockTimeout);
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Queues a task on the given lane. Tasks sharing a lane are executed in the order they were queued.
+     *
+     * @param lane the name of the lane, usually the event name
+     * @param task the task to be executed
+     * @throws RejectedExecutionException if the lane is full and the policy is {@code FAIL}
+     */
+    public void dispatch(@Nonnull String lane, @Nonnull Runnable task) {
+        requireNonBlank(lane, ERROR_LANE_BLANK);
+        requireNonNull(task, ERROR_TASK_NULL);
+
+        Lane l = lanes.get(lane);
+        if (l == null) {
+            l = new Lane(lane);
+            Lane existing = lanes.putIfAbsent(lane, l);
+            if (existing != null) {
+                l = existing;
+            }
+        }
+        l.offer(task);
+    }
+
+    /**
+     * Returns the number of tasks waiting to be executed on the given lane.
+     */
+    public int getQueueDepth(@Nonnull String lane) {
+        requireNonBlank(lane, ERROR_LANE_BLANK);
+        Lane l = lanes.get(lane);
+        return l != null ? l.size() : 0;
+    }
+
+    /**
+     * Returns a snapshot of the number of tasks waiting on each lane.
+     */
+    @Nonnull
+    public Map<String, Integer> getQueueDepths() {
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        for (Map.Entry<String, Lane> e : lanes.entrySet()) {
+            depths.put(e.getKey(), e.getValue().size());
+        }
+        return unmodifiableMap(depths);
+    }
+
+    /**
+     * Returns the number of tasks waiting on all lanes.
+     */
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (Lane lane : lanes.values()) {
+            total += lane.size();
+        }
+        return total;
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    public long getCoalescedEventCount() {
+        return coalescedEvents.get();
+    }
+
+    public long getRejectedEventCount() {
+        return rejectedEvents.get();
+    }
+
+    private final class Lane implements Runnable {
+        private final String name;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        @GuardedBy("lock")
+        private final Runnable[] buffer = new Runnable[capacity];
+        @GuardedBy("lock")
+        private int head;
+        @GuardedBy("lock")
+        private int size;
+        @GuardedBy("lock")
+        private boolean scheduled;
+
+        private Lane(@Nonnull String name) {
+            this.name = name;
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return size;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void offer(@Nonnull Runnable task) {
+            boolean schedule = false;
+            lock.lock();
+            try {
+                if (size == buffer.length && !handleOverflow(task)) {
+                    return;
+                }
+                buffer[(head + size) % buffer.length] = task;
+                size++;
+                if (!scheduled) {
+                    scheduled = true;
+                    schedule = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (schedule) {
+                schedule();
+            }
+        }
+
+        /**
+         * Applies the overflow policy. Returns true if the task must still be queued.
+         */
+        @GuardedBy("lock")
+        private boolean handleOverflow(@Nonnull Runnable task) {
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    size--;
+                    droppedEvents.incrementAndGet();
+                    return true;
+                case COALESCE:
+                    buffer[(head + size - 1) % buffer.length] = task;
+                    coalescedEvents.incrementAndGet();
+                    return false;
+                case BLOCK:
+                    // a draining thread may hold the pool thread needed to make room in any lane
+                    if (DRAINING.get() == null && awaitRoom()) {
+                        return true;
+                    }
+                    throw rejected();
+                case FAIL:
+                default:
+                    throw rejected();
+            }
+        }
+
+        @Nonnull
+        private RejectedExecutionException rejected() {
+            rejectedEvents.incrementAndGet();
+            return new RejectedExecutionException("Event lane '" + name + "' is full (capacity " + buffer.length + ")");
+        }
+
+        @GuardedBy("lock")
+        private boolean awaitRoom() {
+            try {
+                if (blockTimeoutNanos == 0L) {
+                    while (size == buffer.length) {
+                        notFull.await();
+                    }
+                    return true;
+                }
+                long nanos = blockTimeoutNanos;
+                while (size == buffer.length) {
+                    if (nanos <= 0L) {
+                        return false;
+                    }
+                    nanos = notFull.awaitNanos(nanos);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void schedule() {
+            try {
+                executorService.execute(this);
+            } catch (RejectedExecutionException e) {
+                lock.lock();
+                try {
+                    scheduled = false;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void run() {
+            DRAINING.set(Boolean.TRUE);
+            try {
+                drain();
+            } finally {
+                DRAINING.remove();
+            }
+        }
+
+        private void drain() {
+            // drain at most one buffer's worth of tasks before yielding to other lanes
+            for (int i = 0; i < buffer.length; i++) {
+                Runnable task;
+                lock.lock();
+                try {
+                    if (size == 0) {
+                        scheduled = false;
+                        return;
+                    }
+                    task = buffer[head];
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    size--;
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    task.run();
+                } catch (Throwable throwable) {
+                    Thread thread = Thread.currentThread();
+                    if (exceptionHandler != null) {
+                        exceptionHandler.uncaughtException(thread, throwable);
+                    } else {
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+                    }
+                }
+            }
+
+            lock.lock();
+            try {
+                if (size == 0) {
+                    scheduled = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            LOG.trace("Rescheduling event lane '{}'", name);
+            schedule();
+        }
+    }
+}
@@ -16,12 +16,12 @@
 package org.codehaus.griffon.runtime.core.i18n;
 
 import griffon.core.CallableWithArgs;
-import griffon.core.i18n.MessageSource;
+import griffon.core.i18n.ExtendedMessageSource;
 import griffon.core.i18n.NoSuchMessageException;
+import org.codehaus.griffon.runtime.util.MessageTemplateCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.text.MessageFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -35,7 +35,7 @@ import static java.util.Objects.requireNonNull;
  * @author Alexander Klein
  * @since 2.0.0
  */
-public abstract class AbstractMessageSource implements MessageSource {
+public abstract class AbstractMessageSource implements ExtendedMessageSource {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     protected static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
     protected static final String ERROR_ARGS_NULL = "Argument 'args' must not be null";
@@ -43,6 +43,8 @@ public abstract class AbstractMessageSource implements MessageSource {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    private final MessageTemplateCache templateCache = new MessageTemplateCache();
+
     @Nonnull
     @Override
     public String getMessage(@Nonnull String key) throws NoSuchMessageException {
@@ -106,11 +108,13 @@ public abstract class AbstractMessageSource implements MessageSource {
     @Nullable
     @Override
     public String getMessage(@Nonnull String key, @Nonnull Object[] args, @Nonnull Locale locale, @Nullable String defaultMessage) {
-        try {
-            return getMessage(key, args, locale);
-        } catch (NoSuchMessageException nsme) {
-            return null == defaultMessage ? key : defaultMessage;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = resolveMessageValueOrNull(key, locale);
+        Object result = message != null ? evalMessageWithArguments(message, args) : null;
+        if (result != null) return result.toString();
+        return null == defaultMessage ? key : defaultMessage;
     }
 
     @Nullable
@@ -152,11 +156,13 @@ public abstract class AbstractMessageSource implements MessageSource {
     @Nullable
     @Override
     public String getMessage(@Nonnull String key, @Nonnull Map<String, Object> args, @Nonnull Locale locale, @Nullable String defaultMessage) {
-        try {
-            return getMessage(key, args, locale);
-        } catch (NoSuchMessageException nsme) {
-            return null == defaultMessage ? key : defaultMessage;
-        }
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(args, ERROR_ARGS_NULL);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = resolveMessageValueOrNull(key, locale);
+        Object result = message != null ? evalMessageWithArguments(message, args) : null;
+        if (result != null) return result.toString();
+        return null == defaultMessage ? key : defaultMessage;
     }
 
     @Nonnull
@@ -179,6 +185,22 @@ public abstract class AbstractMessageSource implements MessageSource {
         }
     }
 
+    @Nullable
+    @Override
+    public Object resolveMessageValueOrNull(@Nonnull String key, @Nonnull Locale locale) {
+        requireNonBlank(key, ERROR_KEY_BLANK);
+        requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = doResolveMessageValueOrNull(key, locale);
+        if (message instanceof CharSequence) {
+            String msg = message.toString();
+            if (msg.length() >= 4 && msg.startsWith(REF_KEY_START) && msg.endsWith(REF_KEY_END)) {
+                String refKey = msg.substring(2, msg.length() - 1);
+                message = resolveMessageValueOrNull(refKey, locale);
+            }
+        }
+        return message;
+    }
+
     @Nonnull
     @Override
     public String formatMessage(@Nonnull String message, @Nonnull List<?> args) {
@@ -193,7 +215,7 @@ public abstract class AbstractMessageSource implements MessageSource {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
         if (args.length == 0) return message;
-        return MessageFormat.format(message, args);
+        return templateCache.format(message, args);
     }
 
     @Nonnull
@@ -201,19 +223,27 @@ public abstract class AbstractMessageSource implements MessageSource {
     public String formatMessage(@Nonnull String message, @Nonnull Map<String, Object> args) {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
-        for (Map.Entry<String, Object> variable : args.entrySet()) {
-            String var = variable.getKey();
-            String value = variable.getValue() != null ? variable.getValue().toString() : null;
-            if (value != null) {
-                message = message.replace("{:" + var + "}", value);
-            }
-        }
-        return message;
+        return templateCache.format(message, args);
     }
 
     @Nonnull
     protected abstract Object doResolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException;
 
+    /**
+     * Resolves a message value without throwing an exception if the key can not be found.
+     * Subclasses should override this method when misses can be detected without exceptions.
+     *
+     * @since 2.9.0
+     */
+    @Nullable
+    protected Object doResolveMessageValueOrNull(@Nonnull String key, @Nonnull Locale locale) {
+        try {
+            return doResolveMessageValue(key, locale);
+        } catch (NoSuchMessageException | MissingResourceException e) {
+            return null;
+        }
+    }
+
     @Nullable
     protected Object evalMessageWithArguments(@Nonnull Object message, @Nonnull Object[] args) {
         if (message instanceof CallableWithArgs) {
@@ -15,11 +15,13 @@
  */
 package org.codehaus.griffon.runtime.core.i18n;
 
+import griffon.core.i18n.ExtendedMessageSource;
 import griffon.core.i18n.MessageSource;
 import griffon.core.i18n.NoSuchMessageException;
 import griffon.util.CompositeResourceBundle;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -56,14 +58,37 @@ public class CompositeMessageSource extends AbstractMessageSource {
     protected Object doResolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
         requireNonBlank(key, ERROR_KEY_BLANK);
         requireNonNull(locale, ERROR_LOCALE_NULL);
+        Object message = doResolveMessageValueOrNull(key, locale);
+        if (message == null) {
+            throw new NoSuchMessageException(key, locale);
+        }
+        return message;
+    }
+
+    @Nullable
+    @Override
+    protected Object doResolveMessageValueOrNull(@Nonnull String key, @Nonnull Locale locale) {
         for (MessageSource messageSource : messageSources) {
-            try {
-                return messageSource.getMessage(key, locale);
-            } catch (NoSuchMessageException nsme) {
-                // ignore
+            Object message = resolveMessageValueOrNull(messageSource, key, locale);
+            // same result as messageSource.getMessage(key, locale)
+            Object result = message != null ? evalMessageWithArguments(message, EMPTY_OBJECT_ARGS) : null;
+            if (result != null) {
+                return result.toString();
             }
         }
-        throw new NoSuchMessageException(key, locale);
+        return null;
+    }
+
+    @Nullable
+    private static Object resolveMessageValueOrNull(@Nonnull MessageSource messageSource, @Nonnull String key, @Nonnull Locale locale) {
+        if (messageSource instanceof ExtendedMessageSource) {
+            return ((ExtendedMessageSource) messageSource).resolveMessageValueOrNull(key, locale);
+        }
+        try {
+            return messageSource.resolveMessageValue(key, locale);
+        } catch (NoSuchMessageException nsme) {
+            return null;
+        }
     }
 
     @Nonnull
@@ -20,10 +20,14 @@ import griffon.util.CompositeResourceBundle;
 import griffon.util.CompositeResourceBundleBuilder;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
@@ -33,8 +37,14 @@ import static java.util.Objects.requireNonNull;
  * @since 2.0.0
  */
 public class DefaultMessageSource extends AbstractMessageSource {
+    private static final int MAX_MISSING_KEYS = 1024;
+
     private final String basename;
     private final Map<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
+    /**
+     * Keys known to be missing, per locale, up to {@code MAX_MISSING_KEYS} each. Cleared whenever bundles are reloaded.
+     */
+    private final ConcurrentMap<Locale, Set<String>> missingKeys = new ConcurrentHashMap<>();
     private final CompositeResourceBundleBuilder compositeResourceBundleBuilder;
 
     public DefaultMessageSource(@Nonnull CompositeResourceBundleBuilder builder, @Nonnull String basename) {
@@ -54,6 +64,42 @@ public class DefaultMessageSource extends AbstractMessageSource {
         return getBundle(locale).getObject(key);
     }
 
+    @Nullable
+    @Override
+    protected Object doResolveMessageValueOrNull(@Nonnull String key, @Nonnull Locale locale) {
+        Set<String> missing = missingKeys.get(locale);
+        if (missing != null && missing.contains(key)) {
+            return null;
+        }
+
+        ResourceBundle bundle = getBundle(locale);
+        if (bundle.containsKey(key)) {
+            return bundle.getObject(key);
+        }
+
+        if (missing == null) {
+            missing = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+            Set<String> existing = missingKeys.putIfAbsent(locale, missing);
+            if (existing != null) {
+                missing = existing;
+            }
+        }
+        if (missing.size() < MAX_MISSING_KEYS) {
+            missing.add(key);
+        }
+        return null;
+    }
+
+    /**
+     * Discards all loaded bundles and cached misses. Bundles will be loaded again on demand.
+     *
+     * @since 2.9.0
+     */
+    public void reload() {
+        bundles.clear();
+        missingKeys.clear();
+    }
+
     @Nonnull
     protected ResourceBundle getBundle(@Nonnull Locale locale) {
         requireNonNull(locale, ERROR_LOCALE_NULL);
@@ -15,6 +15,7 @@
  */
 package org.codehaus.griffon.runtime.core.i18n;
 
+import griffon.core.i18n.ExtendedMessageSource;
 import griffon.core.i18n.MessageSource;
 import griffon.core.i18n.NoSuchMessageException;
 
@@ -31,7 +32,7 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  * @since 2.4.0
  */
-public class MessageSourceDecorator implements MessageSource {
+public class MessageSourceDecorator implements ExtendedMessageSource {
     private final MessageSource delegate;
 
     public MessageSourceDecorator(@Nonnull MessageSource delegate) {
@@ -147,4 +148,16 @@ public class MessageSourceDecorator implements MessageSource {
     public Object resolveMessageValue(@Nonnull String key, @Nonnull Locale locale) throws NoSuchMessageException {
         return getDelegate().resolveMessageValue(key, locale);
     }
+
+    @Nullable
+    public Object resolveMessageValueOrNull(@Nonnull String key, @Nonnull Locale locale) {
+        if (getDelegate() instanceof ExtendedMessageSource) {
+            return ((ExtendedMessageSource) getDelegate()).resolveMessageValueOrNull(key, locale);
+        }
+        try {
+            return getDelegate().resolveMessageValue(key, locale);
+        } catch (NoSuchMessageException nsme) {
+            return null;
+        }
+    }
 }
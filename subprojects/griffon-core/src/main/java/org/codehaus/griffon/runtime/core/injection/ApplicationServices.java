@@ -0,0 +1,136 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection;
+
+import griffon.core.ApplicationClassLoader;
+import griffon.core.Configuration;
+import griffon.core.Context;
+import griffon.core.addon.AddonManager;
+import griffon.core.artifact.ArtifactManager;
+import griffon.core.controller.ActionManager;
+import griffon.core.event.EventRouter;
+import griffon.core.i18n.MessageSource;
+import griffon.core.injection.Injector;
+import griffon.core.mvc.MVCGroupManager;
+import griffon.core.resources.ResourceHandler;
+import griffon.core.resources.ResourceInjector;
+import griffon.core.resources.ResourceResolver;
+import griffon.core.threading.UIThreadManager;
+import griffon.core.view.WindowManager;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Memoizes the core services exposed by a {@code GriffonApplication}.<p>
+ * Every application type keeps one instance of this class and delegates its service getters
+ * to it, passing the injector the application was configured with.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class ApplicationServices {
+    private final MemoizedInstance<ApplicationClassLoader> applicationClassLoader = new MemoizedInstance<>(ApplicationClassLoader.class);
+    private final MemoizedInstance<Context> context = new MemoizedInstance<>(Context.class, "applicationContext");
+    private final MemoizedInstance<Configuration> configuration = new MemoizedInstance<>(Configuration.class);
+    private final MemoizedInstance<UIThreadManager> uiThreadManager = new MemoizedInstance<>(UIThreadManager.class);
+    private final MemoizedInstance<EventRouter> eventRouter = new MemoizedInstance<>(EventRouter.class, "applicationEventRouter");
+    private final MemoizedInstance<ArtifactManager> artifactManager = new MemoizedInstance<>(ArtifactManager.class);
+    private final MemoizedInstance<ActionManager> actionManager = new MemoizedInstance<>(ActionManager.class);
+    private final MemoizedInstance<AddonManager> addonManager = new MemoizedInstance<>(AddonManager.class);
+    private final MemoizedInstance<MVCGroupManager> mvcGroupManager = new MemoizedInstance<>(MVCGroupManager.class);
+    private final MemoizedInstance<MessageSource> messageSource = new MemoizedInstance<>(MessageSource.class, "applicationMessageSource");
+    private final MemoizedInstance<ResourceResolver> resourceResolver = new MemoizedInstance<>(ResourceResolver.class, "applicationResourceResolver");
+    private final MemoizedInstance<ResourceHandler> resourceHandler = new MemoizedInstance<>(ResourceHandler.class);
+    private final MemoizedInstance<ResourceInjector> resourceInjector = new MemoizedInstance<>(ResourceInjector.class, "applicationResourceInjector");
+    private final MemoizedInstance<WindowManager<?>> windowManager = new MemoizedInstance<>(windowManagerType());
+
+    @Nonnull
+    public ApplicationClassLoader getApplicationClassLoader(@Nonnull Injector<?> injector) {
+        return applicationClassLoader.get(injector);
+    }
+
+    @Nonnull
+    public Context getContext(@Nonnull Injector<?> injector) {
+        return context.get(injector);
+    }
+
+    @Nonnull
+    public Configuration getConfiguration(@Nonnull Injector<?> injector) {
+        return configuration.get(injector);
+    }
+
+    @Nonnull
+    public UIThreadManager getUIThreadManager(@Nonnull Injector<?> injector) {
+        return uiThreadManager.get(injector);
+    }
+
+    @Nonnull
+    public EventRouter getEventRouter(@Nonnull Injector<?> injector) {
+        return eventRouter.get(injector);
+    }
+
+    @Nonnull
+    public ArtifactManager getArtifactManager(@Nonnull Injector<?> injector) {
+        return artifactManager.get(injector);
+    }
+
+    @Nonnull
+    public ActionManager getActionManager(@Nonnull Injector<?> injector) {
+        return actionManager.get(injector);
+    }
+
+    @Nonnull
+    public AddonManager getAddonManager(@Nonnull Injector<?> injector) {
+        return addonManager.get(injector);
+    }
+
+    @Nonnull
+    public MVCGroupManager getMvcGroupManager(@Nonnull Injector<?> injector) {
+        return mvcGroupManager.get(injector);
+    }
+
+    @Nonnull
+    public MessageSource getMessageSource(@Nonnull Injector<?> injector) {
+        return messageSource.get(injector);
+    }
+
+    @Nonnull
+    public ResourceResolver getResourceResolver(@Nonnull Injector<?> injector) {
+        return resourceResolver.get(injector);
+    }
+
+    @Nonnull
+    public ResourceHandler getResourceHandler(@Nonnull Injector<?> injector) {
+        return resourceHandler.get(injector);
+    }
+
+    @Nonnull
+    public ResourceInjector getResourceInjector(@Nonnull Injector<?> injector) {
+        return resourceInjector.get(injector);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <W> WindowManager<W> getWindowManager(@Nonnull Injector<?> injector) {
+        return (WindowManager<W>) windowManager.get(injector);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static Class<WindowManager<?>> windowManagerType() {
+        return (Class<WindowManager<?>>) (Class<?>) WindowManager.class;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection;
+
+import griffon.core.injection.Injector;
+
+import javax.annotation.Nonnull;
+import java.lang.annotation.Annotation;
+
+import static griffon.util.AnnotationUtils.named;
+import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Remembers a singleton instance resolved from an {@code Injector}.<p>
+ * The instance is looked up the first time it is requested and reused afterwards, avoiding
+ * qualifier construction and key lookups on every call. The memoized instance is bound to the
+ * injector it came from; asking with a different injector resolves the instance again.
+ * Only use this class with bindings in singleton scope.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class MemoizedInstance<T> {
+    private final Class<T> type;
+    private final Annotation qualifier;
+    private volatile Resolved<T> resolved;
+
+    public MemoizedInstance(@Nonnull Class<T> type) {
+        this.type = requireNonNull(type, "Argument 'type' must not be null");
+        this.qualifier = null;
+    }
+
+    public MemoizedInstance(@Nonnull Class<T> type, @Nonnull String name) {
+        this.type = requireNonNull(type, "Argument 'type' must not be null");
+        this.qualifier = named(requireNonBlank(name, "Argument 'name' must not be blank"));
+    }
+
+    /**
+     * Returns the instance, resolving it with the given injector if needed.
+     *
+     * @param injector the injector that owns the instance
+     * @return the memoized instance
+     */
+    @Nonnull
+    public T get(@Nonnull Injector<?> injector) {
+        requireNonNull(injector, "Argument 'injector' must not be null");
+        Resolved<T> current = resolved;
+        if (current == null || current.injector != injector) {
+            // concurrent callers resolve the same singleton
+            T instance = qualifier != null ? injector.getInstance(type, qualifier) : injector.getInstance(type);
+            current = new Resolved<>(injector, instance);
+            resolved = current;
+        }
+        return current.instance;
+    }
+
+    private static final class Resolved<T> {
+        private final Injector<?> injector;
+        private final T instance;
+
+        private Resolved(@Nonnull Injector<?> injector, @Nonnull T instance) {
+            this.injector = injector;
+            this.instance = instance;
+        }
+    }
+}
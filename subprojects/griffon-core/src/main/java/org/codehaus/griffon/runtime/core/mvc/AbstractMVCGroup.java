@@ -155,6 +155,10 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
                 getMvcGroupManager().destroyMVCGroup(id);
             }
             getMvcGroupManager().destroyMVCGroup(mvcId);
+            if (!isAlive()) {
+                // recycled by the manager
+                return;
+            }
             members.clear();
             children.clear();
             if (parentGroup != null) {
@@ -168,6 +172,61 @@ public abstract class AbstractMVCGroup extends AbstractMVCHandler implements MVC
         }
     }
 
+    /**
+     * Detaches this group so that it can be kept in a pool. Children are destroyed, the parent
+     * is notified and the context is cleared, but members are kept. The group is not alive
+     * until {@link #revive()} is called.
+     *
+     * @since 2.9.0
+     */
+    public void recycle() {
+        if (isAlive()) {
+            List<String> childrenIds = new ArrayList<>(children.keySet());
+            Collections.reverse(childrenIds);
+            for (String id : childrenIds) {
+                getMvcGroupManager().destroyMVCGroup(id);
+            }
+            children.clear();
+            if (parentGroup != null) {
+                parentGroup.notifyMVCGroupDestroyed(mvcId);
+            }
+            for (String key : context.keySet()) {
+                // only keys owned by this context are removed
+                context.remove(key);
+            }
+            synchronized (lock) {
+                alive = false;
+            }
+        }
+    }
+
+    /**
+     * Destroys a group that was revived after being recycled, without notifying the manager or
+     * the parent group again; both were notified by {@link #recycle()}.
+     *
+     * @since 2.9.0
+     */
+    public void discard() {
+        members.clear();
+        children.clear();
+        parentGroup = null;
+        context.destroy();
+        synchronized (lock) {
+            alive = false;
+        }
+    }
+
+    /**
+     * Makes a recycled group alive again.
+     *
+     * @since 2.9.0
+     */
+    public void revive() {
+        synchronized (lock) {
+            alive = true;
+        }
+    }
+
     @Override
     public void notifyMVCGroupDestroyed(@Nonnull String mvcId) {
         requireNonBlank(mvcId, "Argument 'mvcId' must not be blank");
@@ -22,13 +22,13 @@ import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonModel;
 import griffon.core.artifact.GriffonMvcArtifact;
 import griffon.core.artifact.GriffonView;
+import griffon.core.mvc.ExtendedMVCGroupManager;
 import griffon.core.mvc.MVCFunction;
 import griffon.core.mvc.MVCGroup;
 import griffon.core.mvc.MVCGroupConfiguration;
 import griffon.core.mvc.MVCGroupConfigurationFactory;
 import griffon.core.mvc.MVCGroupFactory;
 import griffon.core.mvc.MVCGroupFunction;
-import griffon.core.mvc.MVCGroupManager;
 import griffon.exceptions.ArtifactNotFoundException;
 import griffon.exceptions.MVCGroupConfigurationException;
 import org.slf4j.Logger;
@@ -37,15 +37,31 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.util.GriffonNameUtils.isBlank;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
@@ -55,7 +71,7 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public abstract class AbstractMVCGroupManager implements MVCGroupManager {
+public abstract class AbstractMVCGroupManager implements ExtendedMVCGroupManager {
     protected static final String ERROR_MVCTYPE_BLANK = "Argument 'mvcType' must not be blank";
     protected static final String ERROR_MVCID_BLANK = "Argument 'mvcId' must not be blank";
     protected static final String ERROR_CONFIGURATION_NULL = "Argument 'configuration' must not be null";
@@ -67,8 +83,48 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractMVCGroupManager.class);
     private final GriffonApplication application;
 
-    private final Map<String, MVCGroupConfiguration> configurations = new LinkedHashMap<>();
-    private final Map<String, MVCGroup> groups = new LinkedHashMap<>();
+    /**
+     * Immutable snapshot of all configurations. Configurations change rarely, writers replace
+     * the snapshot while holding {@code lock}.
+     */
+    private volatile Map<String, MVCGroupConfiguration> configurations = emptyMap();
+    /**
+     * Registered groups by id. The remaining maps are secondary indexes; all of them can be read
+     * without locking, writers update them while holding {@code lock}.
+     */
+    private final ConcurrentMap<String, Registration> groups = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, MVCGroup> groupsInOrder = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Map<String, MVCGroup>> groupsByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, MVCGroup>> groupsByParent = new ConcurrentHashMap<>();
+    private final AtomicLong registrationSequence = new AtomicLong();
+    private final Map<String, MVCGroup> groupsView = new GroupsView<MVCGroup>() {
+        @Nullable
+        @Override
+        protected MVCGroup extract(@Nonnull MVCGroup group) {
+            return group;
+        }
+    };
+    private final Map<String, GriffonModel> modelsView = new GroupsView<GriffonModel>() {
+        @Nullable
+        @Override
+        protected GriffonModel extract(@Nonnull MVCGroup group) {
+            return group.getModel();
+        }
+    };
+    private final Map<String, GriffonView> viewsView = new GroupsView<GriffonView>() {
+        @Nullable
+        @Override
+        protected GriffonView extract(@Nonnull MVCGroup group) {
+            return group.getView();
+        }
+    };
+    private final Map<String, GriffonController> controllersView = new GroupsView<GriffonController>() {
+        @Nullable
+        @Override
+        protected GriffonController extract(@Nonnull MVCGroup group) {
+            return group.getController();
+        }
+    };
     private final Object lock = new Object[0];
     private boolean initialized;
 
@@ -110,28 +166,22 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
 
     @Nonnull
     public Map<String, MVCGroupConfiguration> getConfigurations() {
-        synchronized (lock) {
-            return unmodifiableMap(configurations);
-        }
+        return configurations;
     }
 
     @Nonnull
     public Map<String, MVCGroup> getGroups() {
-        synchronized (lock) {
-            return unmodifiableMap(groups);
-        }
+        return groupsView;
     }
 
     @Nonnull
     public MVCGroupConfiguration findConfiguration(@Nonnull String mvcType) {
         requireNonBlank(mvcType, ERROR_MVCTYPE_BLANK);
-        MVCGroupConfiguration configuration;
-        synchronized (lock) {
-            configuration = configurations.get(mvcType);
-        }
+        Map<String, MVCGroupConfiguration> snapshot = configurations;
+        MVCGroupConfiguration configuration = snapshot.get(mvcType);
 
         if (configuration == null) {
-            throw new MVCGroupConfigurationException("Unknown MVC type '" + mvcType + "'. Known types are " + configurations.keySet(), mvcType);
+            throw new MVCGroupConfigurationException("Unknown MVC type '" + mvcType + "'. Known types are " + snapshot.keySet(), mvcType);
         }
         return configuration;
     }
@@ -139,10 +189,32 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
     @Nullable
     public MVCGroup findGroup(@Nonnull String mvcId) {
         requireNonBlank(mvcId, ERROR_MVCID_BLANK);
-        synchronized (lock) {
-            LOG.debug("Searching group {}", mvcId);
-            return groups.get(mvcId);
+        LOG.debug("Searching group {}", mvcId);
+        Registration registration = groups.get(mvcId);
+        return registration != null ? registration.group : null;
+    }
+
+    @Nonnull
+    @Override
+    public Collection<MVCGroup> findGroupsByType(@Nonnull String mvcType) {
+        requireNonBlank(mvcType, ERROR_MVCTYPE_BLANK);
+        return indexedGroups(groupsByType, mvcType);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<MVCGroup> findChildGroups(@Nonnull MVCGroup parentGroup) {
+        requireNonNull(parentGroup, ERROR_GROUP_NULL);
+        return indexedGroups(groupsByParent, parentGroup.getMvcId());
+    }
+
+    @Nonnull
+    private static Collection<MVCGroup> indexedGroups(@Nonnull Map<String, Map<String, MVCGroup>> index, @Nonnull String key) {
+        Map<String, MVCGroup> entries = index.get(key);
+        if (entries == null || entries.isEmpty()) {
+            return Collections.emptyList();
         }
+        return unmodifiableList(new ArrayList<>(entries.values()));
     }
 
     @Nullable
@@ -167,7 +239,9 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
             if (initialized && configurations.get(configuration.getMvcType()) != null) {
                 return;
             }
-            configurations.put(configuration.getMvcType(), configuration);
+            Map<String, MVCGroupConfiguration> copy = new LinkedHashMap<>(configurations);
+            copy.put(configuration.getMvcType(), configuration);
+            configurations = unmodifiableMap(copy);
         }
     }
 
@@ -180,7 +254,11 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
         requireNonBlank(name, "Argument 'name' must not be blank");
         if (!isBlank(name)) {
             synchronized (lock) {
-                configurations.remove(name);
+                if (configurations.containsKey(name)) {
+                    Map<String, MVCGroupConfiguration> copy = new LinkedHashMap<>(configurations);
+                    copy.remove(name);
+                    configurations = unmodifiableMap(copy);
+                }
             }
         }
     }
@@ -189,7 +267,16 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
         requireNonNull(group, ERROR_GROUP_NULL);
         synchronized (lock) {
             LOG.debug("Adding group {}:{}", group.getMvcId(), group);
-            groups.put(group.getMvcId(), group);
+            Registration registration = new Registration(registrationSequence.incrementAndGet(), group);
+            Registration previous = groups.put(group.getMvcId(), registration);
+            if (previous != null) {
+                unindex(previous);
+            }
+            groupsInOrder.put(registration.sequence, group);
+            index(groupsByType, group.getMvcType(), group);
+            if (group.getParentGroup() != null) {
+                index(groupsByParent, group.getParentGroup().getMvcId(), group);
+            }
         }
     }
 
@@ -197,50 +284,55 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
         requireNonNull(group, ERROR_GROUP_NULL);
         synchronized (lock) {
             LOG.debug("Removing group {}:{}", group.getMvcId(), group);
-            groups.remove(group.getMvcId());
+            Registration registration = groups.get(group.getMvcId());
+            if (registration != null && registration.group == group) {
+                groups.remove(group.getMvcId());
+                unindex(registration);
+            }
         }
     }
 
-    @Nonnull
-    public final Map<String, ? extends GriffonModel> getModels() {
-        Map<String, GriffonModel> models = new LinkedHashMap<>();
-        synchronized (lock) {
-            for (MVCGroup group : groups.values()) {
-                GriffonModel model = group.getModel();
-                if (model != null) {
-                    models.put(group.getMvcId(), model);
-                }
+    private void unindex(@Nonnull Registration registration) {
+        MVCGroup group = registration.group;
+        groupsInOrder.remove(registration.sequence);
+        unindex(groupsByType, group.getMvcType(), group);
+        if (group.getParentGroup() != null) {
+            unindex(groupsByParent, group.getParentGroup().getMvcId(), group);
+        }
+    }
+
+    private static void index(@Nonnull ConcurrentMap<String, Map<String, MVCGroup>> index, @Nonnull String key, @Nonnull MVCGroup group) {
+        Map<String, MVCGroup> entries = index.get(key);
+        if (entries == null) {
+            entries = new ConcurrentHashMap<>();
+            index.put(key, entries);
+        }
+        entries.put(group.getMvcId(), group);
+    }
+
+    private static void unindex(@Nonnull ConcurrentMap<String, Map<String, MVCGroup>> index, @Nonnull String key, @Nonnull MVCGroup group) {
+        Map<String, MVCGroup> entries = index.get(key);
+        if (entries != null) {
+            entries.remove(group.getMvcId());
+            if (entries.isEmpty()) {
+                index.remove(key);
             }
         }
-        return unmodifiableMap(models);
+    }
+
+    @Nonnull
+    public final Map<String, ? extends GriffonModel> getModels() {
+        return modelsView;
     }
 
     @Nonnull
     public final Map<String, ? extends GriffonView> getViews() {
-        Map<String, GriffonView> views = new LinkedHashMap<>();
-        synchronized (lock) {
-            for (MVCGroup group : groups.values()) {
-                GriffonView view = group.getView();
-                if (view != null) {
-                    views.put(group.getMvcId(), view);
-                }
-            }
-        }
-        return unmodifiableMap(views);
+        return viewsView;
     }
 
     @Nonnull
     public final Map<String, ? extends GriffonController> getControllers() {
-        Map<String, GriffonController> controllers = new LinkedHashMap<>();
-        synchronized (lock) {
-            for (MVCGroup group : groups.values()) {
-                GriffonController controller = group.getController();
-                if (controller != null) {
-                    controllers.put(group.getMvcId(), controller);
-                }
-            }
-        }
-        return unmodifiableMap(controllers);
+        return controllersView;
     }
 
     @Nonnull
@@ -300,6 +392,42 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
 
     protected abstract void doInitialize(@Nonnull Map<String, MVCGroupConfiguration> configurations);
 
+    @Nonnull
+    protected Future<MVCGroup> createMVCGroupAsync(@Nonnull final MVCGroupConfiguration configuration, @Nullable final String mvcId, @Nonnull Map<String, Object> args) {
+        requireNonNull(args, ERROR_ARGS_NULL);
+        final Map<String, Object> argsCopy = new LinkedHashMap<>(args);
+        return getApplication().getUIThreadManager().runFuture(new Callable<MVCGroup>() {
+            @Override
+            public MVCGroup call() throws Exception {
+                return createMVCGroup(configuration, mvcId, argsCopy);
+            }
+        });
+    }
+
+    @Nonnull
+    @Override
+    public Future<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType) {
+        return createMVCGroupAsync(findConfiguration(mvcType), null, Collections.<String, Object>emptyMap());
+    }
+
+    @Nonnull
+    @Override
+    public Future<MVCGroup> createMVCGroupAsync(@Nonnull String mvcType, @Nonnull String mvcId) {
+        return createMVCGroupAsync(findConfiguration(mvcType), mvcId, Collections.<String, Object>emptyMap());
+    }
+
+    @Nonnull
+    @Override
+    public Future<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType) {
+        return createMVCGroupAsync(findConfiguration(mvcType), null, args);
+    }
+
+    @Nonnull
+    @Override
+    public Future<MVCGroup> createMVCGroupAsync(@Nonnull Map<String, Object> args, @Nonnull String mvcType, @Nonnull String mvcId) {
+        return createMVCGroupAsync(findConfiguration(mvcType), mvcId, args);
+    }
+
     @Nonnull
     @Override
     public MVCGroup createMVCGroup(@Nonnull String mvcType) {
@@ -497,4 +625,85 @@ public abstract class AbstractMVCGroupManager implements MVCGroupManager {
             return null;
         }
     }
+
+    private static final class Registration {
+        private final long sequence;
+        private final MVCGroup group;
+
+        private Registration(long sequence, @Nonnull MVCGroup group) {
+            this.sequence = sequence;
+            this.group = group;
+        }
+    }
+
+    /**
+     * Read-only view of registered groups, in registration order. Skips groups for which
+     * {@code extract} returns {@code null}.
+     */
+    private abstract class GroupsView<V> extends AbstractMap<String, V> {
+        @Nullable
+        protected abstract V extract(@Nonnull MVCGroup group);
+
+        @Override
+        public V get(Object key) {
+            Registration registration = key instanceof String ? groups.get(key) : null;
+            return registration != null ? extract(registration.group) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Nonnull
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<Entry<String, V>>() {
+                @Nonnull
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    final Iterator<MVCGroup> delegate = groupsInOrder.values().iterator();
+                    return new Iterator<Entry<String, V>>() {
+                        private Entry<String, V> next;
+
+                        @Override
+                        public boolean hasNext() {
+                            while (next == null && delegate.hasNext()) {
+                                MVCGroup group = delegate.next();
+                                V value = extract(group);
+                                if (value != null) {
+                                    next = new SimpleImmutableEntry<>(group.getMvcId(), value);
+                                }
+                            }
+                            return next != null;
+                        }
+
+                        @Override
+                        public Entry<String, V> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, V> entry = next;
+                            next = null;
+                            return entry;
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (Iterator<Entry<String, V>> it = iterator(); it.hasNext(); it.next()) {
+                        size++;
+                    }
+                    return size;
+                }
+            };
+        }
+    }
 }
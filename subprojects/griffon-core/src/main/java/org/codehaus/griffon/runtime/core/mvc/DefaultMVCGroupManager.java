@@ -24,8 +24,12 @@ import griffon.core.artifact.GriffonClass;
 import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonMvcArtifact;
 import griffon.core.artifact.GriffonView;
+import griffon.core.event.EventRouter;
+import griffon.core.event.ExtendedEventRouter;
 import griffon.core.mvc.MVCGroup;
 import griffon.core.mvc.MVCGroupConfiguration;
+import griffon.core.mvc.PoolingMVCGroupManager;
+import griffon.core.mvc.ResettableMVCMember;
 import griffon.exceptions.FieldException;
 import griffon.exceptions.GriffonException;
 import griffon.exceptions.MVCGroupInstantiationException;
@@ -33,30 +37,43 @@ import griffon.exceptions.NewInstanceException;
 import griffon.inject.Contextual;
 import griffon.inject.MVCMember;
 import griffon.util.CollectionUtils;
+import org.codehaus.griffon.runtime.core.controller.AbstractActionManager;
 import org.codehaus.griffon.runtime.core.injection.InjectionUnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.inject.Inject;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
 import static griffon.util.AnnotationUtils.findAnnotation;
 import static griffon.util.AnnotationUtils.namesFor;
 import static griffon.util.ConfigUtils.getConfigValueAsBoolean;
+import static griffon.util.ConfigUtils.getConfigValueAsInt;
+import static griffon.util.GriffonClassUtils.PRIMITIVE_TYPE_COMPATIBLE_CLASSES;
 import static griffon.util.GriffonClassUtils.getAllDeclaredFields;
 import static griffon.util.GriffonClassUtils.getPropertyDescriptors;
 import static griffon.util.GriffonClassUtils.setFieldValue;
@@ -73,16 +90,20 @@ import static java.util.Objects.requireNonNull;
  * @author Andres Almiray
  * @since 2.0.0
  */
-public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
+public class DefaultMVCGroupManager extends AbstractMVCGroupManager implements PoolingMVCGroupManager {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultMVCGroupManager.class);
     private static final String CONFIG_KEY_COMPONENT = "component";
     private static final String CONFIG_KEY_EVENTS_LIFECYCLE = "events.lifecycle";
     private static final String CONFIG_KEY_EVENTS_INSTANTIATION = "events.instantiation";
     private static final String CONFIG_KEY_EVENTS_DESTRUCTION = "events.destruction";
     private static final String CONFIG_KEY_EVENTS_LISTENER = "events.listener";
+    private static final String CONFIG_KEY_POOL_CAPACITY = "pool.capacity";
     private static final String KEY_PARENT_GROUP = "parentGroup";
 
     private final ApplicationClassLoader applicationClassLoader;
+    private final Map<Class<?>, InjectionPoint[]> injectionPointsCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Field[]> contextualFieldsCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, GroupPool> pools = new ConcurrentHashMap<>();
 
     @Inject
     public DefaultMVCGroupManager(@Nonnull GriffonApplication application, @Nonnull ApplicationClassLoader applicationClassLoader) {
@@ -102,6 +123,13 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         requireNonNull(configuration, ERROR_CONFIGURATION_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
 
+        if (isBlank(mvcId)) {
+            MVCGroup pooledGroup = acquirePooledGroup(configuration, (MVCGroup) args.get(KEY_PARENT_GROUP));
+            if (pooledGroup != null) {
+                return reuseMVCGroup(pooledGroup, args);
+            }
+        }
+
         mvcId = resolveMvcId(configuration, mvcId);
         checkIdIsUnique(mvcId, configuration);
 
@@ -116,8 +144,6 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             selectClassesPerMember(memberType, memberClassName, classMap);
         }
 
-        boolean isEventPublishingEnabled = getApplication().getEventRouter().isEventPublishingEnabled();
-        getApplication().getEventRouter().setEventPublishingEnabled(isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_INSTANTIATION));
         Map<String, Object> instances = new LinkedHashMap<>();
         List<Object> injectedInstances = new ArrayList<>();
 
@@ -127,10 +153,29 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
         }
 
+        // only events published by this thread are discarded, other threads keep publishing
+        EventRouter eventRouter = getApplication().getEventRouter();
+        boolean suspendEvents = !isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_INSTANTIATION);
+        boolean perThread = eventRouter instanceof ExtendedEventRouter;
+        boolean isEventPublishingEnabled = eventRouter.isEventPublishingEnabled();
+        if (suspendEvents) {
+            if (perThread) {
+                ((ExtendedEventRouter) eventRouter).suspendEventPublishingOnCurrentThread();
+            } else {
+                eventRouter.setEventPublishingEnabled(false);
+            }
+        }
+
         try {
             instances.putAll(instantiateMembers(classMap, argsCopy));
         } finally {
-            getApplication().getEventRouter().setEventPublishingEnabled(isEventPublishingEnabled);
+            if (suspendEvents) {
+                if (perThread) {
+                    ((ExtendedEventRouter) eventRouter).resumeEventPublishingOnCurrentThread();
+                } else {
+                    eventRouter.setEventPublishingEnabled(isEventPublishingEnabled);
+                }
+            }
             try {
                 injectedInstances.addAll(InjectionUnitOfWork.finish());
             } catch (IllegalStateException ise) {
@@ -276,10 +321,17 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
     protected void initializeMembers(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
         LOG.debug("Initializing each MVC member of group '{}'", group.getMvcId());
+        boolean viewsInitialized = false;
         for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
             String memberType = memberEntry.getKey();
             Object member = memberEntry.getValue();
-            if (member instanceof GriffonArtifact) {
+            if (member instanceof GriffonView) {
+                // all views are initialized in a single trip to the UI thread, at the position of the first one
+                if (!viewsInitialized) {
+                    initializeViews(group, args);
+                    viewsInitialized = true;
+                }
+            } else if (member instanceof GriffonArtifact) {
                 initializeArtifactMember(group, memberType, (GriffonArtifact) member, args);
             } else {
                 initializeNonArtifactMember(group, memberType, member, args);
@@ -287,6 +339,37 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    /**
+     * Calls {@code initUI} and {@code mvcGroupInit} on every view of the group with a single
+     * submission to the UI thread.
+     *
+     * @param group the group being initialized
+     * @param args  the arguments sent to {@code mvcGroupInit}
+     * @since 2.9.0
+     */
+    protected void initializeViews(@Nonnull MVCGroup group, final @Nonnull Map<String, Object> args) {
+        final List<GriffonView> views = new ArrayList<>();
+        for (Object member : group.getMembers().values()) {
+            if (member instanceof GriffonView) {
+                views.add((GriffonView) member);
+            }
+        }
+
+        getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (GriffonView view : views) {
+                        view.initUI();
+                        view.mvcGroupInit(args);
+                    }
+                } catch (RuntimeException e) {
+                    throw (RuntimeException) sanitize(e);
+                }
+            }
+        });
+    }
+
     protected void initializeArtifactMember(@Nonnull MVCGroup group, @Nonnull String type, final @Nonnull GriffonArtifact member, final @Nonnull Map<String, Object> args) {
         if (member instanceof GriffonView) {
             getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
@@ -321,6 +404,19 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             this.type = type;
         }
 
+        /**
+         * Adapts a setter handle to type {@code (Object, Object)void}.
+         */
+        @Nonnull
+        protected static MethodHandle toSetter(@Nonnull MethodHandle handle) {
+            return handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+
+        @Nonnull
+        protected static Class<?> boxed(@Nonnull Class<?> type) {
+            return type.isPrimitive() ? PRIMITIVE_TYPE_COMPATIBLE_CLASSES.get(type) : type;
+        }
+
         protected enum Type {
             MEMBER,
             CONTEXTUAL,
@@ -332,15 +428,34 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
     protected static class FieldInjectionPoint extends InjectionPoint {
         protected final Field field;
+        private final String[] keys;
+        private final Class<?> fieldType;
+        private final MethodHandle setter;
 
         protected FieldInjectionPoint(String name, boolean nullable, Type type, Field field) {
             super(name, nullable, type);
             this.field = field;
+            this.keys = namesFor(field);
+            this.fieldType = boxed(field.getType());
+            this.setter = createSetter(field);
+        }
+
+        @Nullable
+        private static MethodHandle createSetter(@Nonnull Field field) {
+            if (Modifier.isFinal(field.getModifiers())) {
+                return null;
+            }
+            try {
+                field.setAccessible(true);
+                return toSetter(MethodHandles.lookup().unreflectSetter(field));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fallback to name based lookup
+                return null;
+            }
         }
 
         @Override
         protected void apply(@Nonnull MVCGroup group, @Nonnull String memberType, @Nonnull Object instance, @Nonnull Map<String, Object> args) {
-            String[] keys = namesFor(field);
             Object argValue = args.get(name);
 
             if (type == Type.CONTEXTUAL) {
@@ -370,29 +485,64 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             }
 
             try {
-                setFieldValue(instance, name, argValue);
+                if (setter != null && fieldType.isInstance(argValue)) {
+                    setter.invokeExact(instance, argValue);
+                } else {
+                    // type conversion may be needed
+                    setFieldValue(instance, name, argValue);
+                }
                 if (type == Type.OTHER) {
                     LOG.warn("Field '" + name + "' in " + memberType + " (" + instance.getClass().getName() +
                         ") must be annotated with @" + MVCMember.class.getName() + ".");
                 }
             } catch (FieldException e) {
                 throw new MVCGroupInstantiationException(group.getMvcType(), group.getMvcId(), e);
+            } catch (Throwable t) {
+                throw new MVCGroupInstantiationException(group.getMvcType(), group.getMvcId(), new FieldException(instance, name, argValue, t));
             }
         }
     }
 
     protected static class MethodInjectionPoint extends InjectionPoint {
         protected final Method method;
+        private final String[] keys;
+        private final MethodHandle setter;
 
         protected MethodInjectionPoint(String name, boolean nullable, Type type, Method method) {
             super(name, nullable, type);
             this.method = method;
+            this.keys = type == Type.CONTEXTUAL ? namesFor(method) : null;
+            this.setter = createSetter(method);
+        }
+
+        @Nullable
+        private static MethodHandle createSetter(@Nonnull Method method) {
+            try {
+                return toSetter(MethodHandles.publicLookup().unreflect(method));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fallback to reflective invocation
+                return null;
+            }
+        }
+
+        private void invoke(@Nonnull Object instance, @Nullable Object argValue) throws IllegalAccessException, InvocationTargetException {
+            Class<?> parameterType = method.getParameterTypes()[0];
+            if (setter == null || (argValue == null ? parameterType.isPrimitive() : !boxed(parameterType).isInstance(argValue))) {
+                // let reflection report the mismatch as it always did
+                method.invoke(instance, argValue);
+                return;
+            }
+
+            try {
+                setter.invokeExact(instance, argValue);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
         }
 
         @Override
         protected void apply(@Nonnull MVCGroup group, @Nonnull String memberType, @Nonnull Object instance, @Nonnull Map<String, Object> args) {
             if (type == Type.CONTEXTUAL) {
-                String[] keys = namesFor(method);
                 Object argValue = args.get(name);
 
                 for (String key : keys) {
@@ -411,7 +561,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 }
 
                 try {
-                    method.invoke(instance, argValue);
+                    invoke(instance, argValue);
                 } catch (IllegalAccessException | InvocationTargetException e) {
                     throw new MVCGroupInstantiationException(group.getMvcType(), group.getMvcId(), e);
                 }
@@ -429,7 +579,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
                 }
 
                 try {
-                    method.invoke(instance, argValue);
+                    invoke(instance, argValue);
                     if (type == Type.OTHER) {
                         LOG.warn("Property '" + name + "' in " + memberType + " (" + instance.getClass().getName() +
                             ") must be annotated with @" + MVCMember.class.getName() + ".");
@@ -448,34 +598,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
             Map<String, Object> argsCopy = new LinkedHashMap<>(args);
 
-            Map<String, Field> fields = new LinkedHashMap<>();
-            for (Field field : getAllDeclaredFields(member.getClass())) {
-                fields.put(field.getName(), field);
-            }
-            Map<String, InjectionPoint> injectionPoints = new LinkedHashMap<>();
-            for (PropertyDescriptor descriptor : getPropertyDescriptors(member.getClass())) {
-                Method method = descriptor.getWriteMethod();
-                if (method == null || isInjectable(method)) { continue; }
-                boolean nullable = findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) == null;
-                InjectionPoint.Type type = resolveType(method);
-                Field field = fields.get(descriptor.getName());
-                if (field != null && type == InjectionPoint.Type.OTHER) {
-                    type = resolveType(field);
-                    nullable = field.getAnnotation(Nonnull.class) == null;
-                }
-                injectionPoints.put(descriptor.getName(), new MethodInjectionPoint(descriptor.getName(), nullable, type, method));
-            }
-
-            for (Field field : getAllDeclaredFields(member.getClass())) {
-                if (Modifier.isStatic(field.getModifiers()) || isInjectable(field)) { continue; }
-                if (!injectionPoints.containsKey(field.getName())) {
-                    boolean nullable = field.getAnnotation(Nonnull.class) == null;
-                    InjectionPoint.Type type = resolveType(field);
-                    injectionPoints.put(field.getName(), new FieldInjectionPoint(field.getName(), nullable, type, field));
-                }
-            }
-
-            for (InjectionPoint ip : injectionPoints.values()) {
+            for (InjectionPoint ip : resolveInjectionPoints(member.getClass())) {
                 ip.apply(group, memberType, member, args);
                 argsCopy.remove(ip.name);
             }
@@ -495,6 +618,56 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    /**
+     * Returns the injection points of a member class. Injection points are resolved once per class.
+     *
+     * @param memberClass the class of an MVC member
+     * @return all injection points of the given class, in order of resolution
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected InjectionPoint[] resolveInjectionPoints(@Nonnull Class<?> memberClass) {
+        InjectionPoint[] injectionPoints = injectionPointsCache.get(memberClass);
+        if (injectionPoints == null) {
+            injectionPoints = createInjectionPoints(memberClass);
+            injectionPointsCache.put(memberClass, injectionPoints);
+        }
+        return injectionPoints;
+    }
+
+    @Nonnull
+    protected InjectionPoint[] createInjectionPoints(@Nonnull Class<?> memberClass) {
+        Field[] allFields = getAllDeclaredFields(memberClass);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Field field : allFields) {
+            fields.put(field.getName(), field);
+        }
+        Map<String, InjectionPoint> injectionPoints = new LinkedHashMap<>();
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(memberClass)) {
+            Method method = descriptor.getWriteMethod();
+            if (method == null || isInjectable(method)) { continue; }
+            boolean nullable = findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) == null;
+            InjectionPoint.Type type = resolveType(method);
+            Field field = fields.get(descriptor.getName());
+            if (field != null && type == InjectionPoint.Type.OTHER) {
+                type = resolveType(field);
+                nullable = field.getAnnotation(Nonnull.class) == null;
+            }
+            injectionPoints.put(descriptor.getName(), new MethodInjectionPoint(descriptor.getName(), nullable, type, method));
+        }
+
+        for (Field field : allFields) {
+            if (Modifier.isStatic(field.getModifiers()) || isInjectable(field)) { continue; }
+            if (!injectionPoints.containsKey(field.getName())) {
+                boolean nullable = field.getAnnotation(Nonnull.class) == null;
+                InjectionPoint.Type type = resolveType(field);
+                injectionPoints.put(field.getName(), new FieldInjectionPoint(field.getName(), nullable, type, field));
+            }
+        }
+
+        return injectionPoints.values().toArray(new InjectionPoint[injectionPoints.size()]);
+    }
+
     @Nonnull
     protected InjectionPoint.Type resolveType(@Nonnull AnnotatedElement element) {
         if (isContextual(element)) {
@@ -536,6 +709,10 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             }
         }
 
+        if (releasePooledGroup(group)) {
+            return;
+        }
+
         boolean fireDestructionEvents = isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_DESTRUCTION);
 
         destroyMembers(group, fireDestructionEvents);
@@ -548,6 +725,206 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    @Override
+    public long getPoolHitCount(@Nonnull String mvcType) {
+        GroupPool pool = pools.get(mvcType);
+        return pool != null ? pool.hits.get() : 0;
+    }
+
+    @Override
+    public long getPoolMissCount(@Nonnull String mvcType) {
+        GroupPool pool = pools.get(mvcType);
+        return pool != null ? pool.misses.get() : 0;
+    }
+
+    @Override
+    public int getPooledGroupCount(@Nonnull String mvcType) {
+        GroupPool pool = pools.get(mvcType);
+        return pool != null ? pool.size() : 0;
+    }
+
+    @Override
+    public void destroyPooledGroups() {
+        for (String mvcType : new ArrayList<>(pools.keySet())) {
+            GroupPool pool = pools.remove(mvcType);
+            if (pool != null) {
+                for (MVCGroup group : pool.close()) {
+                    destroyPooledGroup(group);
+                }
+            }
+        }
+    }
+
+    /**
+     * Destroys a group that was released into a pool. Lifecycle events and the parent group
+     * were already notified when the group was released, only its members are destroyed.
+     *
+     * @param group a recycled group
+     * @since 2.9.0
+     */
+    protected void destroyPooledGroup(@Nonnull MVCGroup group) {
+        LOG.debug("Destroying pooled MVC group '{}'", group.getMvcId());
+        AbstractMVCGroup pooledGroup = (AbstractMVCGroup) group;
+        pooledGroup.revive();
+        destroyMembers(group, isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_DESTRUCTION));
+        pooledGroup.discard();
+    }
+
+    @Nullable
+    private GroupPool poolFor(@Nonnull MVCGroupConfiguration configuration) {
+        GroupPool pool = pools.get(configuration.getMvcType());
+        if (pool == null) {
+            int capacity = getConfigValueAsInt(configuration.getConfig(), CONFIG_KEY_POOL_CAPACITY, 0);
+            if (capacity <= 0 || !getConfigValueAsBoolean(configuration.getConfig(), CONFIG_KEY_COMPONENT, false)) {
+                return null;
+            }
+            pool = new GroupPool(capacity);
+            GroupPool existing = pools.putIfAbsent(configuration.getMvcType(), pool);
+            if (existing != null) {
+                pool = existing;
+            }
+        }
+        return pool;
+    }
+
+    @Nullable
+    protected MVCGroup acquirePooledGroup(@Nonnull MVCGroupConfiguration configuration, @Nullable MVCGroup parentGroup) {
+        GroupPool pool = poolFor(configuration);
+        if (pool == null) {
+            return null;
+        }
+
+        List<MVCGroup> orphans = new ArrayList<>();
+        MVCGroup group = pool.acquire(parentGroup, orphans);
+        for (MVCGroup orphan : orphans) {
+            destroyPooledGroup(orphan);
+        }
+        if (group == null) {
+            pool.misses.incrementAndGet();
+            return null;
+        }
+        pool.hits.incrementAndGet();
+        LOG.debug("Reusing pooled MVC group '{}' with name '{}'", configuration.getMvcType(), group.getMvcId());
+        return group;
+    }
+
+    @Nonnull
+    protected MVCGroup reuseMVCGroup(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
+        MVCGroupConfiguration configuration = group.getConfiguration();
+        ((AbstractMVCGroup) group).revive();
+
+        Map<String, Object> argsCopy = copyAndConfigureArguments(args, configuration, group.getMvcId());
+        adjustMvcArguments(group, argsCopy);
+
+        boolean fireEvents = isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_LIFECYCLE);
+        if (fireEvents) {
+            getApplication().getEventRouter().publishEvent(ApplicationEvent.INITIALIZE_MVC_GROUP.getName(), asList(configuration, group));
+        }
+
+        if (isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_LISTENER)) {
+            GriffonController controller = group.getController();
+            if (controller != null) {
+                getApplication().getEventRouter().addEventListener(controller);
+            }
+        }
+
+        fillReferencedProperties(group, argsCopy);
+        doAddGroup(group);
+
+        // views keep the UI built by initUI, only mvcGroupInit is called again
+        final Map<String, Object> initArgs = argsCopy;
+        for (Object member : group.getMembers().values()) {
+            if (member instanceof GriffonView) {
+                final GriffonView view = (GriffonView) member;
+                getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            view.mvcGroupInit(initArgs);
+                        } catch (RuntimeException e) {
+                            throw (RuntimeException) sanitize(e);
+                        }
+                    }
+                });
+            } else if (member instanceof GriffonMvcArtifact) {
+                ((GriffonMvcArtifact) member).mvcGroupInit(initArgs);
+            }
+        }
+
+        if (fireEvents) {
+            getApplication().getEventRouter().publishEvent(ApplicationEvent.CREATE_MVC_GROUP.getName(), asList(group));
+        }
+
+        return group;
+    }
+
+    /**
+     * Keeps a group in its pool instead of destroying it, if pooling is enabled for its type,
+     * there is room in the pool and all of its members implement {@code ResettableMVCMember}.
+     *
+     * @return {@code true} if the group was pooled
+     */
+    protected boolean releasePooledGroup(@Nonnull MVCGroup group) {
+        GroupPool pool = poolFor(group.getConfiguration());
+        if (pool == null || !(group instanceof AbstractMVCGroup)) {
+            return false;
+        }
+        for (Object member : group.getMembers().values()) {
+            if (!(member instanceof ResettableMVCMember)) {
+                return false;
+            }
+        }
+
+        // room is reserved before any side effect, a full pool leaves the group to the regular destroy path
+        if (!pool.reserve()) {
+            return false;
+        }
+
+        try {
+            resetPooledGroup(group);
+        } catch (RuntimeException e) {
+            pool.cancelReservation();
+            throw e;
+        }
+
+        if (!pool.release(group)) {
+            // pools were destroyed in the meantime
+            destroyPooledGroup(group);
+        }
+        return true;
+    }
+
+    private void resetPooledGroup(@Nonnull MVCGroup group) {
+        LOG.debug("Releasing MVC group '{}' into its pool", group.getMvcId());
+        for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
+            final ResettableMVCMember member = (ResettableMVCMember) memberEntry.getValue();
+            if (member instanceof GriffonView) {
+                getApplication().getUIThreadManager().runInsideUISync(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            member.mvcGroupReset();
+                        } catch (RuntimeException e) {
+                            throw (RuntimeException) sanitize(e);
+                        }
+                    }
+                });
+            } else {
+                member.mvcGroupReset();
+            }
+            if (member instanceof GriffonArtifact) {
+                destroyContextualMemberProperties(memberEntry.getKey(), (GriffonArtifact) member);
+            }
+        }
+
+        doRemoveGroup(group);
+        ((AbstractMVCGroup) group).recycle();
+
+        if (isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_LIFECYCLE)) {
+            getApplication().getEventRouter().publishEvent(ApplicationEvent.DESTROY_MVC_GROUP.getName(), asList(group));
+        }
+    }
+
     protected void destroyMembers(@Nonnull MVCGroup group, boolean fireDestructionEvents) {
         for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
             Object member = memberEntry.getValue();
@@ -573,6 +950,9 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
             final GriffonMvcArtifact artifact = (GriffonMvcArtifact) member;
             if (fireDestructionEvents) {
                 getApplication().getEventRouter().publishEvent(ApplicationEvent.DESTROY_INSTANCE.getName(), asList(member.getClass(), artifact));
+            } else if (member instanceof GriffonController && getApplication().getActionManager() instanceof AbstractActionManager) {
+                // cached actions are otherwise discarded by a DESTROY_INSTANCE listener
+                ((AbstractActionManager) getApplication().getActionManager()).removeActions((GriffonController) member);
             }
 
             if (artifact instanceof GriffonView) {
@@ -600,16 +980,30 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     }
 
     protected void destroyContextualMemberProperties(@Nonnull String type, @Nonnull GriffonArtifact member) {
-        for (Field field : getAllDeclaredFields(member.getClass())) {
-            if (isContextual(field)) {
-                try {
-                    setFieldValue(member, field.getName(), null);
-                } catch (FieldException e) {
-                    throw new IllegalStateException("Could not nullify field " +
-                        field.getName() + "' in " + type + " (" + member.getClass().getName() + ")", e);
+        for (Field field : resolveContextualFields(member.getClass())) {
+            try {
+                setFieldValue(member, field.getName(), null);
+            } catch (FieldException e) {
+                throw new IllegalStateException("Could not nullify field " +
+                    field.getName() + "' in " + type + " (" + member.getClass().getName() + ")", e);
+            }
+        }
+    }
+
+    @Nonnull
+    private Field[] resolveContextualFields(@Nonnull Class<?> memberClass) {
+        Field[] fields = contextualFieldsCache.get(memberClass);
+        if (fields == null) {
+            List<Field> contextualFields = new ArrayList<>();
+            for (Field field : getAllDeclaredFields(memberClass)) {
+                if (isContextual(field)) {
+                    contextualFields.add(field);
                 }
             }
+            fields = contextualFields.toArray(new Field[contextualFields.size()]);
+            contextualFieldsCache.put(memberClass, fields);
         }
+        return fields;
     }
 
     protected void destroyNonArtifactMember(@Nonnull String type, @Nonnull Object member, boolean fireDestructionEvents) {
@@ -634,6 +1028,79 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    private static final class GroupPool {
+        private final int capacity;
+        private final Deque<MVCGroup> groups = new ArrayDeque<>();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        @GuardedBy("this")
+        private int reserved;
+        @GuardedBy("this")
+        private boolean closed;
+
+        private GroupPool(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * @param orphans receives groups whose parent is gone, they must be destroyed by the caller
+         */
+        @Nullable
+        private synchronized MVCGroup acquire(@Nullable MVCGroup parentGroup, @Nonnull List<MVCGroup> orphans) {
+            for (Iterator<MVCGroup> it = groups.iterator(); it.hasNext(); ) {
+                MVCGroup group = it.next();
+                MVCGroup groupParent = group.getParentGroup();
+                if (groupParent != null && !groupParent.isAlive()) {
+                    // the parent context is gone, this group can't be reused
+                    it.remove();
+                    orphans.add(group);
+                } else if (groupParent == parentGroup) {
+                    it.remove();
+                    return group;
+                }
+            }
+            return null;
+        }
+
+        private synchronized boolean reserve() {
+            if (closed || groups.size() + reserved >= capacity) {
+                return false;
+            }
+            reserved++;
+            return true;
+        }
+
+        private synchronized void cancelReservation() {
+            reserved--;
+        }
+
+        /**
+         * Fills a previously reserved slot.
+         *
+         * @return false if the pool was closed since the slot was reserved
+         */
+        private synchronized boolean release(@Nonnull MVCGroup group) {
+            reserved--;
+            if (closed) {
+                return false;
+            }
+            groups.push(group);
+            return true;
+        }
+
+        @Nonnull
+        private synchronized List<MVCGroup> close() {
+            closed = true;
+            List<MVCGroup> pooled = new ArrayList<>(groups);
+            groups.clear();
+            return pooled;
+        }
+
+        private synchronized int size() {
+            return groups.size();
+        }
+    }
+
     protected static final class ClassHolder {
         protected Class<?> regularClass;
         protected Class<? extends GriffonArtifact> artifactClass;
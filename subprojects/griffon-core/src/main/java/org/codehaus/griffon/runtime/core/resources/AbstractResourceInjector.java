@@ -16,6 +16,7 @@
 package org.codehaus.griffon.runtime.core.resources;
 
 import griffon.core.editors.ExtendedPropertyEditor;
+import griffon.core.editors.ValueConversionService;
 import griffon.core.resources.InjectedResource;
 import griffon.core.resources.ResourceInjector;
 import griffon.exceptions.InstanceMethodInvocationException;
@@ -174,17 +175,18 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
         requireNonNull(value, ERROR_VALUE_NULL);
-        PropertyEditor propertyEditor = resolvePropertyEditor(type, format);
-        if (null == propertyEditor) return value;
         if (value instanceof CharSequence) {
-            propertyEditor.setAsText(String.valueOf(value));
-        } else {
-            propertyEditor.setValue(value);
+            return ValueConversionService.convertText(String.valueOf(value), type, format);
         }
-        return propertyEditor.getValue();
+        return ValueConversionService.convertValue(value, type, format);
     }
 
+    /**
+     * @deprecated no longer called by this class, values are converted by {@link #convertValue(Class, Object, String)}
+     * with {@code ValueConversionService}, which caches editors per type. Override {@code convertValue} instead.
+     */
     @Nullable
+    @Deprecated
     protected PropertyEditor resolvePropertyEditor(@Nonnull Class<?> type, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
         PropertyEditor propertyEditor = findEditor(type);
@@ -16,19 +16,18 @@
 package org.codehaus.griffon.runtime.core.resources;
 
 import griffon.core.CallableWithArgs;
+import griffon.core.editors.ValueConversionService;
 import griffon.core.resources.NoSuchResourceException;
 import griffon.core.resources.ResourceResolver;
+import org.codehaus.griffon.runtime.util.MessageTemplateCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
-import java.text.MessageFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static griffon.util.GriffonNameUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
@@ -44,6 +43,8 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    private final MessageTemplateCache templateCache = new MessageTemplateCache();
+
     @Nonnull
     @Override
     public Object resolveResource(@Nonnull String key) throws NoSuchResourceException {
@@ -290,7 +291,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
         requireNonNull(resource, ERROR_RESOURCE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
         if (args.length == 0) return resource;
-        return MessageFormat.format(resource, args);
+        return templateCache.format(resource, args);
     }
 
     @Nonnull
@@ -298,14 +299,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
     public String formatResource(@Nonnull String resource, @Nonnull Map<String, Object> args) {
         requireNonNull(resource, ERROR_RESOURCE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
-        for (Map.Entry<String, Object> variable : args.entrySet()) {
-            String var = variable.getKey();
-            String value = variable.getValue() != null ? variable.getValue().toString() : null;
-            if (value != null) {
-                resource = resource.replace("{:" + var + "}", value);
-            }
-        }
-        return resource;
+        return templateCache.format(resource, args);
     }
 
     @Nonnull
@@ -341,17 +335,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
         return args.toArray(new Object[args.size()]);
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
-        if (value != null) {
-            if (type.isAssignableFrom(value.getClass())) {
-                return (T) value;
-            } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
-            }
-        }
-        return null;
+        return ValueConversionService.convertValue(value, type);
     }
 }
@@ -15,17 +15,16 @@
  */
 package org.codehaus.griffon.runtime.core.resources;
 
+import griffon.core.editors.ValueConversionService;
 import griffon.core.resources.NoSuchResourceException;
 import griffon.core.resources.ResourceResolver;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.beans.PropertyEditor;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import static griffon.core.editors.PropertyEditorResolver.findEditor;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -260,18 +259,8 @@ public class ResourceResolverDecorator implements ResourceResolver {
         return convertValue(resolveResource(key), type);
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> T convertValue(@Nullable Object value, @Nonnull Class<T> type) {
-        if (value != null) {
-            if (type.isAssignableFrom(value.getClass())) {
-                return (T) value;
-            } else {
-                PropertyEditor editor = findEditor(type);
-                editor.setValue(value);
-                return (T) editor.getValue();
-            }
-        }
-        return null;
+        return ValueConversionService.convertValue(value, type);
     }
 }
 
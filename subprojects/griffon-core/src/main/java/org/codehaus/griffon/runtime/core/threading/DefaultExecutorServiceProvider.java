@@ -15,6 +15,10 @@
  */
 package org.codehaus.griffon.runtime.core.threading;
 
+import griffon.core.ConfigurableExecutorServiceManager;
+import griffon.core.ExecutorServiceManager;
+
+import javax.inject.Inject;
 import javax.inject.Provider;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -26,8 +30,14 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @since 2.2.0
  */
 public class DefaultExecutorServiceProvider implements Provider<ExecutorService> {
+    @Inject
+    private ExecutorServiceManager executorServiceManager;
+
     @Override
     public ExecutorService get() {
+        if (executorServiceManager instanceof ConfigurableExecutorServiceManager) {
+            return ((ConfigurableExecutorServiceManager) executorServiceManager).newExecutorService("default", new DefaultThreadFactory());
+        }
         return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory());
     }
 
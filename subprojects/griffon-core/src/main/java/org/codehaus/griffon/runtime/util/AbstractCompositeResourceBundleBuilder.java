@@ -18,6 +18,7 @@ package org.codehaus.griffon.runtime.util;
 import griffon.core.resources.ResourceHandler;
 import griffon.util.CompositeResourceBundle;
 import griffon.util.CompositeResourceBundleBuilder;
+import griffon.util.IndexedResourceBundle;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -42,6 +43,13 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
     protected static final String ERROR_RESOURCE_HANDLER_NULL = "Argument 'resourceHandler' must not be null";
     protected static final String ERROR_BASENAME_BLANK = "Argument 'basename' must not be blank";
     protected static final String ERROR_LOCALE_NULL = "Argument 'locale' must not be null";
+    /**
+     * System property that enables merging all bundles of a basename and locale into a single
+     * {@code IndexedResourceBundle}.
+     *
+     * @since 2.9.0
+     */
+    public static final String KEY_INDEXED_BUNDLES = "griffon.resourcebundle.indexed";
 
     protected final ResourceHandler resourceHandler;
 
@@ -79,7 +87,18 @@ public abstract class AbstractCompositeResourceBundleBuilder implements Composit
             throw new IllegalArgumentException("There are no ResourceBundle resources matching " + basename);
         }
 
-        return new CompositeResourceBundle(bundles);
+        return isIndexingEnabled() ? new IndexedResourceBundle(bundles) : new CompositeResourceBundle(bundles);
+    }
+
+    /**
+     * Whether bundles should be merged into an {@code IndexedResourceBundle}. Lookups on such a
+     * bundle take a single hash probe instead of visiting every bundle, at the cost of copying all
+     * entries when the bundle is created.
+     *
+     * @since 2.9.0
+     */
+    protected boolean isIndexingEnabled() {
+        return Boolean.getBoolean(KEY_INDEXED_BUNDLES);
     }
 
     @Nonnull
@@ -16,6 +16,7 @@
 package org.codehaus.griffon.runtime.util;
 
 import griffon.core.resources.ResourceHandler;
+import griffon.util.BinaryResourceBundle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,11 +26,14 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import static griffon.util.GriffonNameUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
 
 /**
  * @author Andres Almiray
@@ -39,6 +43,7 @@ public class DefaultCompositeResourceBundleBuilder extends AbstractCompositeReso
     private static final Logger LOG = LoggerFactory.getLogger(DefaultCompositeResourceBundleBuilder.class);
     protected static final String PROPERTIES_SUFFIX = ".properties";
     protected static final String CLASS_SUFFIX = ".class";
+    protected static final String BINARY_SUFFIX = BinaryResourceBundle.SUFFIX;
 
     @Inject
     public DefaultCompositeResourceBundleBuilder(@Nonnull ResourceHandler resourceHandler) {
@@ -50,18 +55,73 @@ public class DefaultCompositeResourceBundleBuilder extends AbstractCompositeReso
         requireNonBlank(fileName, ERROR_FILENAME_BLANK);
         List<ResourceBundle> bundles = new ArrayList<>();
         bundles.addAll(loadBundleFromClass(fileName));
-        bundles.addAll(loadBundleFromProperties(fileName));
+        Set<String> compiledLocations = new HashSet<>();
+        bundles.addAll(loadBundleFromBinary(fileName, compiledLocations));
+        bundles.addAll(loadBundleFromProperties(fileName, compiledLocations));
+        return bundles;
+    }
+
+    /**
+     * Loads precompiled bundles. A precompiled bundle replaces the properties file it was compiled
+     * from, that is, the properties file found at the same location.
+     *
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Collection<ResourceBundle> loadBundleFromBinary(@Nonnull String fileName) {
+        return loadBundleFromBinary(fileName, new HashSet<String>());
+    }
+
+    /**
+     * Loads precompiled bundles, recording where each one was found.
+     *
+     * @param fileName          the name of the bundle, without suffix
+     * @param compiledLocations receives the location, without suffix, of every bundle that was loaded
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Collection<ResourceBundle> loadBundleFromBinary(@Nonnull String fileName, @Nonnull Set<String> compiledLocations) {
+        requireNonBlank(fileName, ERROR_FILENAME_BLANK);
+        requireNonNull(compiledLocations, "Argument 'compiledLocations' must not be null");
+        List<ResourceBundle> bundles = new ArrayList<>();
+        List<URL> resources = getResources(fileName, BINARY_SUFFIX);
+        if (resources != null) {
+            for (URL resource : resources) {
+                if (null == resource) continue;
+                try {
+                    bundles.add(new BinaryResourceBundle(resource));
+                    compiledLocations.add(stripSuffix(resource, BINARY_SUFFIX));
+                } catch (IOException e) {
+                    LOG.warn("An error occurred while loading resource bundle " + fileName + " from " + resource, e);
+                }
+            }
+        }
         return bundles;
     }
 
     @Nonnull
     protected Collection<ResourceBundle> loadBundleFromProperties(@Nonnull String fileName) {
         requireNonBlank(fileName, ERROR_FILENAME_BLANK);
+        return loadBundleFromProperties(fileName, compiledLocations(fileName));
+    }
+
+    /**
+     * Loads properties files, skipping those replaced by a precompiled bundle.
+     *
+     * @param fileName          the name of the bundle, without suffix
+     * @param compiledLocations locations, without suffix, of the precompiled bundles already loaded
+     * @since 2.9.0
+     */
+    @Nonnull
+    protected Collection<ResourceBundle> loadBundleFromProperties(@Nonnull String fileName, @Nonnull Set<String> compiledLocations) {
+        requireNonBlank(fileName, ERROR_FILENAME_BLANK);
+        requireNonNull(compiledLocations, "Argument 'compiledLocations' must not be null");
         List<ResourceBundle> bundles = new ArrayList<>();
         List<URL> resources = getResources(fileName, PROPERTIES_SUFFIX);
         if (resources != null) {
             for (URL resource : resources) {
                 if (null == resource) continue;
+                if (compiledLocations.contains(stripSuffix(resource, PROPERTIES_SUFFIX))) continue;
                 try {
                     bundles.add(new PropertyResourceBundle(resource.openStream()));
                 } catch (IOException e) {
@@ -72,6 +132,26 @@ public class DefaultCompositeResourceBundleBuilder extends AbstractCompositeReso
         return bundles;
     }
 
+    @Nonnull
+    private Set<String> compiledLocations(@Nonnull String fileName) {
+        Set<String> locations = new HashSet<>();
+        List<URL> resources = getResources(fileName, BINARY_SUFFIX);
+        if (resources != null) {
+            for (URL resource : resources) {
+                if (null != resource) {
+                    locations.add(stripSuffix(resource, BINARY_SUFFIX));
+                }
+            }
+        }
+        return locations;
+    }
+
+    @Nonnull
+    private static String stripSuffix(@Nonnull URL resource, @Nonnull String suffix) {
+        String location = resource.toString();
+        return location.endsWith(suffix) ? location.substring(0, location.length() - suffix.length()) : location;
+    }
+
     @Nonnull
     protected Collection<ResourceBundle> loadBundleFromClass(@Nonnull String fileName) {
         List<ResourceBundle> bundles = new ArrayList<>();
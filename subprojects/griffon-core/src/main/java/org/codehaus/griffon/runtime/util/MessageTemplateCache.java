@@ -0,0 +1,177 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.util;
+
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches parsed message templates so that patterns are parsed once instead of on every format call.<p>
+ * Positional templates ({@code {0}}) are cached per pattern and format locale; named templates
+ * ({@code {:name}}) are split once into literal and placeholder segments and rendered in a single pass.
+ * Each cache is bounded; it is cleared once it grows past its capacity.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class MessageTemplateCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final String NAMED_START = "{:";
+    private static final String NAMED_END = "}";
+
+    private final int capacity;
+    private final ConcurrentMap<Locale, ConcurrentMap<String, MessageFormat>> positionalTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String[]> namedTemplates = new ConcurrentHashMap<>();
+
+    public MessageTemplateCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MessageTemplateCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Argument 'capacity' must be greater than zero");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Formats a pattern with positional arguments, producing the same output as
+     * {@code MessageFormat.format(pattern, args)}.
+     *
+     * @param pattern the pattern to format
+     * @param args    the arguments to substitute
+     * @return the formatted pattern
+     */
+    @Nonnull
+    public String format(@Nonnull String pattern, @Nonnull Object[] args) {
+        requireNonNull(pattern, "Argument 'pattern' must not be null");
+        requireNonNull(args, "Argument 'args' must not be null");
+        MessageFormat template = positionalTemplate(pattern, Locale.getDefault(Locale.Category.FORMAT));
+        // MessageFormat and its sub formats are not thread safe
+        synchronized (template) {
+            return template.format(args);
+        }
+    }
+
+    /**
+     * Formats a pattern with named arguments. Placeholders whose argument is missing or {@code null}
+     * are left untouched.
+     *
+     * @param pattern the pattern to format
+     * @param args    the arguments to substitute
+     * @return the formatted pattern
+     */
+    @Nonnull
+    public String format(@Nonnull String pattern, @Nonnull Map<String, Object> args) {
+        requireNonNull(pattern, "Argument 'pattern' must not be null");
+        requireNonNull(args, "Argument 'args' must not be null");
+        String[] segments = namedTemplate(pattern);
+        if (segments.length == 1 || args.isEmpty()) {
+            return pattern;
+        }
+
+        StringBuilder b = new StringBuilder(pattern.length() + 16 * (segments.length / 2));
+        for (int i = 0; i < segments.length; i++) {
+            if (i % 2 == 0) {
+                b.append(segments[i]);
+            } else {
+                Object value = args.get(segments[i]);
+                if (value != null) {
+                    b.append(value);
+                } else {
+                    b.append(NAMED_START).append(segments[i]).append(NAMED_END);
+                }
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    public void clear() {
+        positionalTemplates.clear();
+        namedTemplates.clear();
+    }
+
+    @Nonnull
+    private MessageFormat positionalTemplate(@Nonnull String pattern, @Nonnull Locale locale) {
+        ConcurrentMap<String, MessageFormat> templates = positionalTemplates.get(locale);
+        if (templates == null) {
+            templates = new ConcurrentHashMap<>();
+            ConcurrentMap<String, MessageFormat> existing = positionalTemplates.putIfAbsent(locale, templates);
+            if (existing != null) {
+                templates = existing;
+            }
+        }
+
+        MessageFormat template = templates.get(pattern);
+        if (template == null) {
+            template = new MessageFormat(pattern, locale);
+            if (templates.size() >= capacity) {
+                templates.clear();
+            }
+            templates.put(pattern, template);
+        }
+        return template;
+    }
+
+    /**
+     * Splits a pattern into alternating literal and placeholder name segments. Even indexes
+     * hold literals, odd indexes hold placeholder names.
+     */
+    @Nonnull
+    private String[] namedTemplate(@Nonnull String pattern) {
+        String[] segments = namedTemplates.get(pattern);
+        if (segments == null) {
+            segments = parseNamedTemplate(pattern);
+            if (namedTemplates.size() >= capacity) {
+                namedTemplates.clear();
+            }
+            namedTemplates.put(pattern, segments);
+        }
+        return segments;
+    }
+
+    @Nonnull
+    private static String[] parseNamedTemplate(@Nonnull String pattern) {
+        List<String> segments = new ArrayList<>();
+        int offset = 0;
+        int start;
+        while ((start = pattern.indexOf(NAMED_START, offset)) != -1) {
+            int end = pattern.indexOf(NAMED_END, start + NAMED_START.length());
+            if (end == -1) {
+                break;
+            }
+            // use the innermost start, e.g. "{:a {:b}" holds a single placeholder named 'b'
+            start = pattern.lastIndexOf(NAMED_START, end - 1);
+            segments.add(pattern.substring(offset, start));
+            segments.add(pattern.substring(start + NAMED_START.length(), end));
+            offset = end + NAMED_END.length();
+        }
+        segments.add(pattern.substring(offset));
+        return segments.toArray(new String[segments.size()]);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.util;
+
+import griffon.util.BinaryResourceBundle;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compiles properties files into {@code BinaryResourceBundle} files. Each properties file given as
+ * argument, or found in a directory given as argument (recursively), is compiled into a sibling file
+ * with the same name and the {@code .grb} extension.
+ *
+ * @author Andres Almiray
+ * @since 2.9.0
+ */
+public final class ResourceBundleCompiler {
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    private ResourceBundleCompiler() {
+        // prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            File file = new File(arg);
+            if (file.isDirectory()) {
+                compileDirectory(file);
+            } else {
+                compile(file);
+            }
+        }
+    }
+
+    /**
+     * Compiles every properties file found in the given directory and its subdirectories.
+     *
+     * @param directory the directory to scan
+     * @return the number of compiled files
+     * @throws IOException if a file could not be read or written
+     */
+    public static int compileDirectory(@Nonnull File directory) throws IOException {
+        requireNonNull(directory, "Argument 'directory' must not be null");
+        int count = 0;
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return count;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                count += compileDirectory(file);
+            } else if (file.getName().endsWith(PROPERTIES_SUFFIX)) {
+                compile(file);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Compiles a single properties file into a sibling {@code .grb} file.
+     *
+     * @param source the properties file to read
+     * @return the compiled file
+     * @throws IOException if the source could not be read or the target could not be written
+     */
+    @Nonnull
+    public static File compile(@Nonnull File source) throws IOException {
+        requireNonNull(source, "Argument 'source' must not be null");
+        String name = source.getName();
+        if (name.endsWith(PROPERTIES_SUFFIX)) {
+            name = name.substring(0, name.length() - PROPERTIES_SUFFIX.length());
+        }
+        File target = new File(source.getAbsoluteFile().getParentFile(), name + BinaryResourceBundle.SUFFIX);
+        compile(source, target);
+        return target;
+    }
+
+    /**
+     * Compiles a single properties file.
+     *
+     * @param source the properties file to read
+     * @param target the binary file to write
+     * @throws IOException if the source could not be read or the target could not be written
+     */
+    public static void compile(@Nonnull File source, @Nonnull File target) throws IOException {
+        requireNonNull(source, "Argument 'source' must not be null");
+        requireNonNull(target, "Argument 'target' must not be null");
+        try (InputStream in = new FileInputStream(source); OutputStream out = new FileOutputStream(target)) {
+            compile(in, out);
+        }
+    }
+
+    /**
+     * Compiles properties read from a stream. Properties are read with the same rules
+     * as {@code PropertyResourceBundle}. Neither stream is closed by this method.
+     *
+     * @param in  the properties to read
+     * @param out the stream to write the binary bundle to
+     * @throws IOException if an error occurs while reading or writing
+     */
+    public static void compile(@Nonnull InputStream in, @Nonnull OutputStream out) throws IOException {
+        requireNonNull(in, "Argument 'in' must not be null");
+        requireNonNull(out, "Argument 'out' must not be null");
+        ResourceBundle bundle = new PropertyResourceBundle(in);
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (String key : bundle.keySet()) {
+            entries.put(key, bundle.getString(key));
+        }
+        BinaryResourceBundle.write(entries, out);
+    }
+}
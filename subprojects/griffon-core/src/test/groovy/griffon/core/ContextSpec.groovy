@@ -23,6 +23,7 @@ import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import javax.annotation.Nonnull
 import javax.inject.Named
 
 @Unroll
@@ -260,6 +261,36 @@ class ContextSpec extends Specification {
         bean.@bar == 'bar'
     }
 
+    def "Inject contextual members into several instances of the same class"() {
+        given:
+        Bean first = new Bean()
+        Bean second = new Bean()
+
+        when:
+        ctx2.injectMembers(first)
+        ctx3.injectMembers(second)
+
+        then:
+        first.@foo == 'foo'
+        second.@foo == 'bar'
+        second.@bar == 'bar'
+    }
+
+    def "Injecting a missing non null member fails"() {
+        when:
+        ctx1.injectMembers(new StrictBean())
+
+        then:
+        IllegalStateException e = thrown()
+        e.message.contains("under key 'missing'")
+        e.message.contains('Field does not accept null values')
+    }
+
+    static class StrictBean {
+        @Contextual @Nonnull @Named('missing')
+        private String missing
+    }
+
     static class Bean {
         @Contextual @Named('foo')
         private String foo
@@ -17,6 +17,7 @@ package griffon.core
 
 import griffon.core.editors.IntegerPropertyEditor
 import griffon.core.editors.PropertyEditorResolver
+import org.codehaus.griffon.runtime.core.DefaultContext
 import org.codehaus.griffon.runtime.core.DefaultObservableContext
 import spock.lang.Shared
 import spock.lang.Specification
@@ -227,6 +228,57 @@ class ObservableContextSpec extends Specification {
         listener3.contextEvent == null
     }
 
+    def "Values resolved from ancestors follow changes made to any ancestor"() {
+        given:
+        ObservableContext root = new DefaultObservableContext()
+        ObservableContext middle = new DefaultObservableContext(root)
+        ObservableContext leaf = new DefaultObservableContext(middle)
+        root['key'] = 'root'
+
+        expect:
+        leaf['key'] == 'root'
+        !leaf.containsKey('other')
+
+        when:
+        middle['key'] = 'middle'
+        root['other'] = 'other'
+
+        then:
+        leaf['key'] == 'middle'
+        leaf.containsKey('other')
+        leaf.keySet() == ['key', 'other'] as Set
+
+        when:
+        middle.remove('key')
+        root['key'] = 'changed'
+
+        then:
+        leaf['key'] == 'changed'
+
+        when:
+        root.destroy()
+
+        then:
+        !leaf.containsKey('key')
+        leaf.keySet().empty
+    }
+
+    def "Values resolved from non observable ancestors are not cached"() {
+        given:
+        Context root = new DefaultContext()
+        ObservableContext leaf = new DefaultObservableContext(root)
+        root['key'] = 'before'
+
+        expect:
+        leaf['key'] == 'before'
+
+        when:
+        root['key'] = 'after'
+
+        then:
+        leaf['key'] == 'after'
+    }
+
     private static class TestContextEventListener implements ObservableContext.ContextEventListener {
         ObservableContext.ContextEvent contextEvent
 
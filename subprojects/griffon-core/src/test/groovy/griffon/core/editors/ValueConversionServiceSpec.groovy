@@ -0,0 +1,101 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.editors
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+@Unroll
+class ValueConversionServiceSpec extends Specification {
+    void setup() {
+        PropertyEditorResolver.clear()
+        PropertyEditorResolver.registerEditor(Integer, IntegerPropertyEditor)
+        PropertyEditorResolver.registerEditor(Boolean, BooleanPropertyEditor)
+    }
+
+    void cleanup() {
+        PropertyEditorResolver.clear()
+    }
+
+    void "Value #value is converted to #type.simpleName"() {
+        expect:
+        ValueConversionService.convertValue(value, type, format) == expected
+
+        where:
+        value  | type    | format || expected
+        null   | Integer | null   || null
+        '42'   | Integer | null   || 42
+        42     | Integer | null   || 42
+        'true' | Boolean | null   || true
+        'yes'  | Boolean | 'query' || true
+        'ONE'  | Numbers | null   || Numbers.ONE
+    }
+
+    void "Text is converted with setAsText"() {
+        expect:
+        ValueConversionService.convertText('21', Integer, null) == 21
+    }
+
+    void "Types without an editor are returned as they are"() {
+        given:
+        Object value = new Object()
+
+        expect:
+        ValueConversionService.convertValue(value, Runnable) == value
+    }
+
+    void "Registering an editor discards cached converters"() {
+        given:
+        assert ValueConversionService.convertValue('42', Integer) == 42
+
+        when:
+        PropertyEditorResolver.unregisterEditor(Integer)
+        PropertyEditorResolver.registerEditor(Integer, ConstantPropertyEditor)
+
+        then:
+        ValueConversionService.convertValue(true, Integer) == -1
+    }
+
+    void "Conversions are thread safe"() {
+        given:
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+
+        when:
+        List<Future<Boolean>> results = (1..8).collect { int t ->
+            executor.submit({
+                (1..1000).every { int i -> ValueConversionService.convertValue(String.valueOf(t * i), Integer) == t * i }
+            } as Callable<Boolean>)
+        }
+
+        then:
+        results*.get().every { it }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    static class ConstantPropertyEditor extends AbstractPropertyEditor {
+        @Override
+        protected void setValueInternal(Object value) {
+            super.setValueInternal(value instanceof Boolean ? -1 : value)
+        }
+    }
+}
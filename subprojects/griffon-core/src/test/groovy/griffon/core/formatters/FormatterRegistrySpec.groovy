@@ -0,0 +1,83 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.formatters
+
+import spock.lang.Specification
+
+import javax.annotation.Nonnull
+import javax.annotation.Nullable
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+class FormatterRegistrySpec extends Specification {
+    private static final FormatterRegistry.Factory<Date> DATE_FACTORY = new FormatterRegistry.Factory<Date>() {
+        @Nonnull
+        @Override
+        Formatter<Date> create(@Nullable String pattern) {
+            new DateFormatter(pattern)
+        }
+    }
+
+    void cleanup() {
+        FormatterRegistry.clear()
+    }
+
+    void "Shared formatters are cached per pattern"() {
+        expect:
+        FormatterRegistry.sharedFormatter(Date, 'yyyy', DATE_FACTORY).is(FormatterRegistry.sharedFormatter(Date, 'yyyy', DATE_FACTORY))
+        !FormatterRegistry.sharedFormatter(Date, 'yyyy', DATE_FACTORY).is(FormatterRegistry.sharedFormatter(Date, 'MM', DATE_FACTORY))
+    }
+
+    void "Thread local formatters are cached per thread"() {
+        given:
+        Formatter<Date> formatter = FormatterRegistry.threadLocalFormatter(Date, 'yyyy', DATE_FACTORY)
+        Formatter<Date> other = null
+        Thread thread = Thread.start { other = FormatterRegistry.threadLocalFormatter(Date, 'yyyy', DATE_FACTORY) }
+        thread.join()
+
+        expect:
+        formatter.is(FormatterRegistry.threadLocalFormatter(Date, 'yyyy', DATE_FACTORY))
+        other != null
+        !formatter.is(other)
+    }
+
+    void "Thread local formatters can be used concurrently"() {
+        given:
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+        Calendar calendar = Calendar.instance
+        calendar.clear()
+
+        when:
+        List<Future<Boolean>> results = (1..8).collect { int t ->
+            executor.submit({
+                (1..500).every { int i ->
+                    Calendar c = (Calendar) calendar.clone()
+                    c.set(1900 + t * 10 + (i % 10), i % 12, 1 + i % 28)
+                    Formatter<Date> formatter = FormatterRegistry.threadLocalFormatter(Date, 'yyyy-MM-dd', DATE_FACTORY)
+                    formatter.parse(formatter.format(c.time)) == c.time
+                }
+            } as Callable<Boolean>)
+        }
+
+        then:
+        results*.get().every { it }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+}
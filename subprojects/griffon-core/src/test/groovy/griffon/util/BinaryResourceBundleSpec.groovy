@@ -0,0 +1,87 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util
+
+import org.codehaus.griffon.runtime.util.ResourceBundleCompiler
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+
+@Unroll
+class BinaryResourceBundleSpec extends Specification {
+    private static final String PROPERTIES = '''
+        single = single
+        key.string = string
+        key.nested.number = 1
+        accented = \\u00e9t\\u00e9
+        '''.stripIndent()
+
+    def 'Key #key resolves to the same value as in an ExpandableResourceBundle'() {
+        given:
+        ResourceBundle expanded = new ExpandableResourceBundle(new PropertyResourceBundle(new StringReader(PROPERTIES)))
+        ResourceBundle binary = compile(PROPERTIES)
+
+        expect:
+        binary.getObject(key) == expanded.getObject(key)
+        binary.getObject(key) == value
+        binary.containsKey(key)
+
+        where:
+        key                 || value
+        'single'            || 'single'
+        'key.string'        || 'string'
+        'key.nested.number' || '1'
+        'accented'          || 'été'
+        'key'               || [string: 'string', nested: [number: '1']]
+    }
+
+    def 'Keys match an ExpandableResourceBundle and missing keys are not found'() {
+        given:
+        ResourceBundle binary = compile(PROPERTIES)
+
+        when:
+        binary.getObject('missing')
+
+        then:
+        thrown(MissingResourceException)
+        !binary.containsKey('missing')
+        binary.keySet() == new ExpandableResourceBundle(new PropertyResourceBundle(new StringReader(PROPERTIES))).keySet()
+    }
+
+    def 'Binary bundles are used as they are by CompositeResourceBundle'() {
+        given:
+        ResourceBundle binary = compile(PROPERTIES)
+
+        expect:
+        ExpandableResourceBundle.wrapResourceBundle(binary).is(binary)
+        new CompositeResourceBundle([binary]).getObject('key.string') == 'string'
+    }
+
+    def 'Invalid content is rejected'() {
+        when:
+        new BinaryResourceBundle(ByteBuffer.wrap('not a bundle'.getBytes('UTF-8')))
+
+        then:
+        thrown(IOException)
+    }
+
+    private static ResourceBundle compile(String properties) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        ResourceBundleCompiler.compile(new ByteArrayInputStream(properties.getBytes('ISO-8859-1')), out)
+        new BinaryResourceBundle(ByteBuffer.wrap(out.toByteArray()))
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.annotation.Nonnull
+
+@Unroll
+class IndexedResourceBundleSpec extends Specification {
+    def 'Key #key resolves to the same value as in a CompositeResourceBundle'() {
+        given:
+        List<ResourceBundle> bundles = [new OverridingMapResourceBundle(), new MapResourceBundle2()]
+        ResourceBundle composite = new CompositeResourceBundle(bundles)
+        ResourceBundle indexed = new IndexedResourceBundle(bundles)
+
+        expect:
+        indexed.getObject(key) == composite.getObject(key)
+        indexed.getObject(key) == value
+        indexed.containsKey(key)
+
+        where:
+        key          || value
+        'single'     || 'single'
+        'key.string' || 'overridden'
+        'key.number' || 'number'
+        'key.float'  || 'float'
+        'key'        || [string: 'overridden']
+    }
+
+    def 'Keys are unique and missing keys are not found'() {
+        given:
+        ResourceBundle indexed = new IndexedResourceBundle([new OverridingMapResourceBundle(), new MapResourceBundle2()])
+
+        when:
+        indexed.getObject('missing')
+
+        then:
+        thrown(MissingResourceException)
+        !indexed.containsKey('missing')
+        indexed.keySet() == new CompositeResourceBundle([new OverridingMapResourceBundle(), new MapResourceBundle2()]).keySet()
+        indexed.keys.toList().size() == indexed.keySet().size()
+    }
+}
+
+class OverridingMapResourceBundle extends AbstractMapResourceBundle {
+    @Override
+    protected void initialize(@Nonnull Map<String, Object> entries) {
+        entries['key.string'] = 'overridden'
+    }
+}
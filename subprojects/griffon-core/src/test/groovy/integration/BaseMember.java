@@ -0,0 +1,44 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration;
+
+import griffon.core.mvc.MVCGroup;
+import griffon.inject.MVCMember;
+
+public class BaseMember {
+    @MVCMember
+    private String inheritedField;
+    private String inheritedProperty;
+    @MVCMember
+    private MVCGroup mvcGroup;
+
+    public String getInheritedField() {
+        return inheritedField;
+    }
+
+    public String getInheritedProperty() {
+        return inheritedProperty;
+    }
+
+    @MVCMember
+    public void setInheritedProperty(String inheritedProperty) {
+        this.inheritedProperty = inheritedProperty;
+    }
+
+    public MVCGroup getMvcGroup() {
+        return mvcGroup;
+    }
+}
@@ -28,6 +28,8 @@ import griffon.core.artifact.GriffonModelClass
 import griffon.core.artifact.GriffonServiceClass
 import griffon.core.artifact.GriffonView
 import griffon.core.artifact.GriffonViewClass
+import griffon.core.controller.Action
+import griffon.core.controller.ActionExecutionStatus
 import griffon.core.controller.ActionHandler
 import griffon.core.controller.ActionManager
 import griffon.core.env.ApplicationPhase
@@ -35,12 +37,15 @@ import griffon.core.env.Lifecycle
 import griffon.core.mvc.MVCFunction
 import griffon.core.mvc.MVCGroup
 import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
+import org.codehaus.griffon.runtime.core.controller.AbstractActionHandler
+import org.codehaus.griffon.runtime.core.controller.DefaultActionManager
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Stepwise
 
 import javax.annotation.Nonnull
 import javax.annotation.Nullable
+import java.lang.reflect.Method
 
 import static griffon.util.AnnotationUtils.named
 import static griffon.util.AnnotationUtils.typed
@@ -226,6 +231,21 @@ class GriffonApplicationSpec extends Specification {
         !handler.update
     }
 
+    def 'Invoke sayHello Action with an event argument'() {
+        given:
+        InvokeActionHandler handler = application.injector.getInstance(ActionHandler)
+        MVCGroup group = application.mvcGroupManager.findGroup('integration')
+        invokables << group.view
+
+        when:
+        group.controller.invokeAction('sayHello', new EventObject(this))
+
+        then:
+        handler.before
+        handler.after
+        !handler.exception
+    }
+
     def 'Invoke handleException Action'() {
         given:
         InvokeActionHandler handler = application.injector.getInstance(ActionHandler)
@@ -281,6 +301,56 @@ class GriffonApplicationSpec extends Specification {
         !application.actionManager.actionFor(controller, 'unknown')
     }
 
+    def 'Precompiled action invokers honor an overridden doInvokeAction'() {
+        given:
+        GriffonController controller = application.mvcGroupManager.findGroup('integration').controller
+        List<String> invoked = []
+        ActionManager actionManager = new DefaultActionManager(application) {
+            @Override
+            protected void doInvokeAction(@Nonnull GriffonController c, @Nonnull String actionName, @Nonnull Object[] args) {
+                invoked << actionName
+                super.doInvokeAction(c, actionName, args)
+            }
+        }
+        actionManager.createActions(controller)
+
+        when:
+        actionManager.invokeAction(controller, 'contextualSuccess', 'VALUE')
+
+        then:
+        invoked == ['contextualSuccess']
+        controller.key == 'VALUE'
+    }
+
+    def 'Action handlers run forward before and backward after an action'() {
+        given:
+        GriffonController controller = application.mvcGroupManager.findGroup('integration').controller
+        List<String> calls = []
+        ActionManager actionManager = new DefaultActionManager(application)
+        ['A', 'B', 'C'].each { String id -> actionManager.addActionHandler(new RecordingActionHandler(id, calls)) }
+
+        when:
+        actionManager.createActions(controller)
+
+        then:
+        calls == ['configure A', 'configure B', 'configure C'] * controller.griffonClass.actionNames.size()
+
+        when:
+        calls.clear()
+        actionManager.invokeAction(controller, 'contextualSuccess', 'VALUE')
+
+        then:
+        calls == ['before A', 'before B', 'before C', 'after C', 'after B', 'after A']
+
+        when:
+        calls.clear()
+        actionManager.invokeAction(controller, 'throwException')
+
+        then:
+        thrown(RuntimeException)
+        calls == ['before A', 'before B', 'before C', 'exception C', 'exception B', 'exception A', 'after C', 'after B', 'after A']
+    }
+
     def 'Verify AddonManager'() {
         expect:
         application.addonManager.addons.size() == 2
@@ -346,7 +416,7 @@ class GriffonApplicationSpec extends Specification {
         !application.artifactManager.findGriffonClass(SimpleModel, 'domain')
         !application.artifactManager.findGriffonClass(SimpleModel, 'controller')
 
-        application.artifactManager.getClassesOfType('model').clazz == [IntegrationModel, SimpleModel, RootModel, ChildModel, ArgsModel]
+        application.artifactManager.getClassesOfType('model').clazz == [IntegrationModel, SimpleModel, RootModel, ChildModel, ArgsModel, PooledModel]
         !application.artifactManager.getClassesOfType('domain')
 
         application.artifactManager.allClasses*.clazz.sort() == [
@@ -354,14 +424,15 @@ class GriffonApplicationSpec extends Specification {
             SimpleModel, SimpleView, SimpleController,
             RootModel, RootView, RootController,
             ChildModel, ChildView, ChildController,
-            ArgsModel, ArgsView, ArgsController
+            ArgsModel, ArgsView, ArgsController,
+            PooledModel, PooledController
         ].sort()
 
         modelHandler.artifactType == GriffonModel
         modelHandler.trailing == 'Model'
         modelHandler.type == 'model'
-        modelHandler.classesByName.keySet() == (['integration.IntegrationModel', 'integration.SimpleModel', 'integration.RootModel', 'integration.ChildModel', 'integration.ArgsModel'] as Set)
-        modelHandler.classes.clazz == [IntegrationModel, SimpleModel, RootModel, ChildModel, ArgsModel]
+        modelHandler.classesByName.keySet() == (['integration.IntegrationModel', 'integration.SimpleModel', 'integration.RootModel', 'integration.ChildModel', 'integration.ArgsModel', 'integration.PooledModel'] as Set)
+        modelHandler.classes.clazz == [IntegrationModel, SimpleModel, RootModel, ChildModel, ArgsModel, PooledModel]
         modelHandler.findClassFor('integrationModel')
         modelHandler.findClassFor('integration')
         !modelHandler.findClassFor('sample')
@@ -692,4 +763,37 @@ class GriffonApplicationSpec extends Specification {
             return invoked
         }
     }
+
+    private static class RecordingActionHandler extends AbstractActionHandler {
+        private final String id
+        private final List<String> calls
+
+        RecordingActionHandler(String id, List<String> calls) {
+            this.id = id
+            this.calls = calls
+        }
+
+        @Override
+        void configure(@Nonnull Action action, @Nonnull Method method) {
+            calls << ('configure ' + id)
+        }
+
+        @Nonnull
+        @Override
+        Object[] before(@Nonnull Action action, @Nonnull Object[] args) {
+            calls << ('before ' + id)
+            args
+        }
+
+        @Override
+        void after(@Nonnull ActionExecutionStatus status, @Nonnull Action action, @Nonnull Object[] args) {
+            calls << ('after ' + id)
+        }
+
+        @Override
+        boolean exception(@Nonnull Exception exception, @Nonnull Action action, @Nonnull Object[] args) {
+            calls << ('exception ' + id)
+            false
+        }
+    }
 }
@@ -16,14 +16,21 @@
 package integration
 
 import griffon.core.ApplicationBootstrapper
+import griffon.core.ApplicationEvent
 import griffon.core.GriffonApplication
+import griffon.core.RunnableWithArgs
+import griffon.core.artifact.GriffonController
 import griffon.core.env.ApplicationPhase
 import griffon.core.mvc.MVCGroup
+import griffon.core.mvc.MVCGroupManager
 import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Stepwise
 
+import java.lang.ref.WeakReference
+import java.util.concurrent.TimeUnit
+
 @Stepwise
 class MVCGroupSpec extends Specification {
     @Shared
@@ -77,6 +84,21 @@ class MVCGroupSpec extends Specification {
         checks.every { it == true }
     }
 
+    def 'Creating an MVCGroup asynchronously through the MVCGroupManager'() {
+        when:
+        MVCGroup group = application.mvcGroupManager.createMVCGroupAsync('simple').get(10, TimeUnit.SECONDS)
+
+        then:
+        group.model instanceof SimpleModel
+        group.view instanceof SimpleView
+        group.controller instanceof SimpleController
+        group.mvcId == 'simple'
+        application.mvcGroupManager.findGroup('simple') == group
+
+        cleanup:
+        group?.destroy()
+    }
+
     def 'Creating an MVCGroup through a group does set implicit parent group'() {
         given:
         List checks = []
@@ -165,6 +187,36 @@ class MVCGroupSpec extends Specification {
         !application.mvcGroupManager.findGroup('child3')
     }
 
+    def 'Groups are indexed by type and parent group'() {
+        given:
+        MVCGroup root = application.mvcGroupManager.createMVCGroup('root')
+
+        when:
+        root.createMVCGroup('child', 'child1')
+        root.createMVCGroup('child', 'child2')
+
+        then:
+        application.mvcGroupManager.findGroupsByType('child')*.mvcId as Set == ['child1', 'child2'] as Set
+        application.mvcGroupManager.findChildGroups(root)*.mvcId as Set == ['child1', 'child2'] as Set
+        application.mvcGroupManager.groups.keySet().toList().takeRight(3) == ['root', 'child1', 'child2']
+        application.mvcGroupManager.models.child1 instanceof ChildModel
+
+        when:
+        application.mvcGroupManager.findGroup('child1').destroy()
+
+        then:
+        application.mvcGroupManager.findGroupsByType('child')*.mvcId == ['child2']
+        application.mvcGroupManager.findChildGroups(root)*.mvcId == ['child2']
+        !application.mvcGroupManager.groups.containsKey('child1')
+
+        when:
+        root.destroy()
+
+        then:
+        !application.mvcGroupManager.findGroupsByType('child')
+        !application.mvcGroupManager.findChildGroups(root)
+    }
+
     def 'Validate MVCGroup relationships after creation and destruction (createMVC)'() {
         given:
         MVCGroup root = application.mvcGroupManager.createMVCGroup('root')
@@ -351,4 +403,187 @@ class MVCGroupSpec extends Specification {
         then:
         thrown(IllegalStateException)
     }
-}
\ No newline at end of file
+
+    def 'Actions of a destroyed controller are discarded'() {
+        given:
+        GriffonController controller = null
+        boolean actionsCreated = false
+
+        when:
+        application.mvcGroupManager.withMVCGroup('integration', 'integration-actions') { MVCGroup group ->
+            controller = group.controller
+            actionsCreated = !application.actionManager.actionsFor(controller).isEmpty()
+        }
+
+        then:
+        actionsCreated
+        application.actionManager.actionsFor(controller).isEmpty()
+    }
+
+    def 'Cached actions do not keep a destroyed controller reachable'() {
+        given:
+        WeakReference<GriffonController> reference = createAndDestroyGroupWithActions()
+
+        when:
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+
+        then:
+        reference.get() == null
+    }
+
+    private static WeakReference<GriffonController> createAndDestroyGroupWithActions() {
+        WeakReference<GriffonController> reference = null
+        application.mvcGroupManager.withMVCGroup('integration', 'integration-collectable') { MVCGroup group ->
+            assert !application.actionManager.actionsFor(group.controller).isEmpty()
+            reference = new WeakReference<>(group.controller)
+        }
+        reference
+    }
+
+    def 'Injection points are resolved once per member class, including inherited members'() {
+        when:
+        def injectionPoints = application.mvcGroupManager.resolveInjectionPoints(DerivedMember)
+
+        then:
+        injectionPoints.is(application.mvcGroupManager.resolveInjectionPoints(DerivedMember))
+        injectionPoints.collectEntries { [(it.name): it.getClass().simpleName] } == [
+            name             : 'MethodInjectionPoint',
+            inheritedProperty: 'MethodInjectionPoint',
+            count            : 'FieldInjectionPoint',
+            inheritedField   : 'FieldInjectionPoint',
+            mvcGroup         : 'FieldInjectionPoint'
+        ]
+    }
+
+    def 'Cached injection points inject fields and setters of every instance'() {
+        given:
+        List<DerivedMember> members = [new DerivedMember(), new DerivedMember()]
+        MVCGroup mvcGroup = null
+
+        when:
+        application.mvcGroupManager.withMVCGroup('simple') { MVCGroup group ->
+            mvcGroup = group
+            members.eachWithIndex { DerivedMember member, int i ->
+                Map<String, Object> args = [name: 'name' + i, count: i, inheritedField: 'field' + i, inheritedProperty: 'property' + i, mvcGroup: group]
+                for (injectionPoint in application.mvcGroupManager.resolveInjectionPoints(DerivedMember)) {
+                    injectionPoint.apply(group, 'member', member, args)
+                }
+            }
+        }
+
+        then:
+        members.collect { [it.name, it.count, it.inheritedField, it.inheritedProperty] } == [
+            ['name0', 0, 'field0', 'property0'],
+            ['name1', 1, 'field1', 'property1']
+        ]
+        members.every { it.mvcGroup.is(mvcGroup) }
+    }
+
+    def 'Pooled groups are reset on destroy and reused on create'() {
+        given:
+        registerPooledGroup('pooled', 2)
+
+        when:
+        MVCGroup group = application.mvcGroupManager.createMVCGroup('pooled')
+        PooledController controller = group.controller
+        PooledModel model = group.model
+        group.destroy()
+
+        then:
+        !group.alive
+        controller.resets == 1
+        model.resets == 1
+        controller.destroys == 0
+        application.mvcGroupManager.getPooledGroupCount('pooled') == 1
+        application.mvcGroupManager.getPoolMissCount('pooled') == 1
+
+        when:
+        MVCGroup reused = application.mvcGroupManager.createMVCGroup('pooled')
+
+        then:
+        reused.is(group)
+        reused.alive
+        reused.controller.is(controller)
+        controller.inits == 2
+        application.mvcGroupManager.getPooledGroupCount('pooled') == 0
+        application.mvcGroupManager.getPoolHitCount('pooled') == 1
+
+        cleanup:
+        reused?.destroy()
+    }
+
+    def 'Groups released into a full pool are destroyed once'() {
+        given:
+        registerPooledGroup('pooled-overflow', 1)
+        List<MVCGroup> events = []
+        RunnableWithArgs listener = { Object[] args -> events << args[0] } as RunnableWithArgs
+        application.eventRouter.addEventListener(ApplicationEvent.DESTROY_MVC_GROUP.name, listener)
+
+        when:
+        MVCGroup first = application.mvcGroupManager.createMVCGroup('pooled-overflow')
+        MVCGroup second = application.mvcGroupManager.createMVCGroup('pooled-overflow')
+        PooledController firstController = first.controller
+        PooledController secondController = second.controller
+        first.destroy()
+        second.destroy()
+
+        then:
+        events == [first, second]
+        firstController.resets == 1
+        firstController.destroys == 0
+        secondController.resets == 0
+        secondController.destroys == 1
+        application.mvcGroupManager.getPooledGroupCount('pooled-overflow') == 1
+
+        cleanup:
+        application.eventRouter.removeEventListener(ApplicationEvent.DESTROY_MVC_GROUP.name, listener)
+    }
+
+    def 'Pooled groups whose parent is gone are destroyed instead of reused'() {
+        given:
+        registerPooledGroup('pooled-child', 2)
+        MVCGroup parent = application.mvcGroupManager.createMVCGroup('simple')
+
+        when:
+        MVCGroup child = parent.createMVCGroup('pooled-child')
+        PooledController controller = child.controller
+        child.destroy()
+        parent.destroy()
+        MVCGroup group = application.mvcGroupManager.createMVCGroup('pooled-child')
+
+        then:
+        !group.is(child)
+        controller.destroys == 1
+        application.mvcGroupManager.getPoolHitCount('pooled-child') == 0
+        application.mvcGroupManager.getPoolMissCount('pooled-child') == 2
+
+        cleanup:
+        group?.destroy()
+    }
+
+    def 'Destroying pooled groups destroys their members and clears the pools'() {
+        given:
+        registerPooledGroup('pooled-teardown', 2)
+        MVCGroup group = application.mvcGroupManager.createMVCGroup('pooled-teardown')
+        PooledController controller = group.controller
+        group.destroy()
+
+        when:
+        application.mvcGroupManager.destroyPooledGroups()
+
+        then:
+        controller.destroys == 1
+        application.mvcGroupManager.getPooledGroupCount('pooled-teardown') == 0
+        application.mvcGroupManager.getPoolMissCount('pooled-teardown') == 0
+    }
+
+    private static void registerPooledGroup(String mvcType, int capacity) {
+        MVCGroupManager manager = application.mvcGroupManager
+        manager.addConfiguration(manager.newMVCGroupConfiguration(mvcType,
+            [model: 'integration.PooledModel', controller: 'integration.PooledController'],
+            [component: true, pool: [capacity: capacity]]))
+    }
+}
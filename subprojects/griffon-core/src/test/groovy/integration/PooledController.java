@@ -0,0 +1,55 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration;
+
+import griffon.core.mvc.ResettableMVCMember;
+import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonController;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+
+public class PooledController extends AbstractGriffonController implements ResettableMVCMember {
+    private int inits;
+    private int resets;
+    private int destroys;
+
+    @Override
+    public void mvcGroupInit(@Nonnull Map<String, Object> args) {
+        inits++;
+    }
+
+    @Override
+    public void mvcGroupReset() {
+        resets++;
+    }
+
+    @Override
+    public void mvcGroupDestroy() {
+        destroys++;
+    }
+
+    public int getInits() {
+        return inits;
+    }
+
+    public int getResets() {
+        return resets;
+    }
+
+    public int getDestroys() {
+        return destroys;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core
+
+import griffon.util.ConfigUtils
+import griffon.util.ExpandableResourceBundle
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@Unroll
+class ConfigurationIndexSpec extends Specification {
+    private static final ResourceBundle BUNDLE = ExpandableResourceBundle.wrapResourceBundle(new MapResourceBundle())
+
+    def 'Key #key resolves to the same value as ConfigUtils.getConfigValue'() {
+        given:
+        ConfigurationIndex index = new ConfigurationIndex(BUNDLE)
+
+        expect:
+        index.get(key) == ConfigUtils.getConfigValue(BUNDLE, key, null)
+        index.contains(key) == (index.get(key) != null)
+
+        where:
+        key << ['key.string', 'key.int.type', 'key.int', 'key', 'key.missing']
+    }
+
+    def 'Single segment misses return null where ConfigUtils throws'() {
+        given:
+        ConfigurationIndex index = new ConfigurationIndex(BUNDLE)
+
+        expect:
+        index.get('missing') == null
+        !index.contains('missing')
+
+        when:
+        ConfigUtils.getConfigValue(BUNDLE, 'missing', null)
+
+        then:
+        thrown(MissingResourceException)
+    }
+
+    def 'Flat map holds the keys of the bundle only'() {
+        given:
+        ConfigurationIndex index = new ConfigurationIndex(BUNDLE)
+
+        expect:
+        index.asFlatMap().keySet() == BUNDLE.keySet()
+
+        when:
+        index.asFlatMap().clear()
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+}
@@ -20,12 +20,17 @@ import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
 import com.google.inject.Inject
 import griffon.core.ExecutorServiceManager
+import griffon.core.threading.ExecutorServiceStrategy
 import org.junit.Rule
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.Callable
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinWorkerThread
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
 
 @Unroll
 class ExecutorServiceManagerSpec extends Specification {
@@ -59,6 +64,44 @@ class ExecutorServiceManagerSpec extends Specification {
         s3.shutdown
     }
 
+    def 'Executors are created with the strategy configured before first use'() {
+        given:
+        List<String> threads = Collections.synchronizedList([])
+        ThreadFactory threadFactory = { Runnable r -> threads << 'created'; new Thread(r) } as ThreadFactory
+
+        when:
+        ExecutorService fixed = executorServiceManager.newExecutorService('fixed', threadFactory)
+        ExecutorService stealing = executorServiceManager.newExecutorService('stealing', threadFactory)
+        executorServiceManager.configureExecutorService('stealing', ExecutorServiceStrategy.WORK_STEALING, 2)
+        String fixedThread = fixed.submit({ Thread.currentThread().name } as Callable).get(10, TimeUnit.SECONDS)
+        boolean stealingWorker = stealing.submit({ Thread.currentThread() instanceof ForkJoinWorkerThread } as Callable).get(10, TimeUnit.SECONDS)
+
+        then:
+        fixedThread
+        stealingWorker
+        threads.size() == 1
+        executorServiceManager.executorServices.containsAll([fixed, stealing])
+
+        when:
+        executorServiceManager.shutdownAll()
+
+        then:
+        fixed.shutdown
+        stealing.shutdown
+    }
+
+    def 'Unused executors can be shut down'() {
+        given:
+        ExecutorService executorService = executorServiceManager.newExecutorService('unused', Executors.defaultThreadFactory())
+
+        when:
+        executorService.shutdown()
+
+        then:
+        executorService.shutdown
+        executorService.terminated
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
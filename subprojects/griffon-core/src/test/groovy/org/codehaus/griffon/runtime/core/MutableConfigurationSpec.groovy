@@ -20,7 +20,9 @@ import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
 import com.google.inject.Inject
 import griffon.core.Configuration
+import griffon.core.ConfigurationChangeListener
 import griffon.core.MutableConfiguration
+import griffon.core.ObservableMutableConfiguration
 import griffon.core.editors.IntegerPropertyEditor
 import griffon.core.editors.PropertyEditorResolver
 import org.junit.Rule
@@ -348,6 +350,97 @@ class MutableConfigurationSpec extends Specification {
         'key.foo'            || _
     }
 
+    def 'Nested paths of changed values resolve and misses return null'() {
+        given:
+        assert configuration instanceof MutableConfiguration
+
+        when:
+        configuration.set('nested', [foo: [bar: 'baz']])
+
+        then:
+        configuration.get('nested.foo.bar') == 'baz'
+        configuration.containsKey('nested.foo')
+        configuration.get('nested.missing') == null
+        !configuration.containsKey('nested.missing')
+        configuration.get('missing.key', 'default') == 'default'
+    }
+
+    def 'Batched writes are visible as a single change'() {
+        given:
+        assert configuration instanceof ObservableMutableConfiguration
+        List<Set<String>> changes = []
+        configuration.addConfigurationChangeListener({ c, keys -> changes << keys } as ConfigurationChangeListener)
+
+        when:
+        configuration.setAll(['key.foo': 'foo', 'key.bar': 'bar', 'key.string': 'string'])
+
+        then:
+        configuration.get('key.foo') == 'foo'
+        configuration.get('key.bar') == 'bar'
+        changes == [['key.foo', 'key.bar'] as Set]
+
+        when:
+        configuration.removeAll(['key.foo', 'key.bar', 'key.missing'])
+
+        then:
+        !configuration.containsKey('key.foo')
+        !configuration.containsKey('key.bar')
+        changes[1] == ['key.foo', 'key.bar'] as Set
+    }
+
+    def 'Listeners registered for #prefix are notified of changes to #changedKey: #notified'() {
+        given:
+        assert configuration instanceof ObservableMutableConfiguration
+        List<Set<String>> changes = []
+        configuration.addConfigurationChangeListener(prefix, { c, keys -> changes << keys } as ConfigurationChangeListener)
+
+        when:
+        configuration.set(changedKey, 'changed')
+
+        then:
+        notified == (changes == [[changedKey] as Set])
+
+        where:
+        prefix       | changedKey       || notified
+        'key'        | 'key.string'     || true
+        'key.string' | 'key.string'     || true
+        'key.str'    | 'key.string'     || false
+        'key.string' | 'key.string.foo' || true
+        'other'      | 'key.string'     || false
+    }
+
+    def 'Removed listeners are not notified'() {
+        given:
+        assert configuration instanceof ObservableMutableConfiguration
+        List<Set<String>> changes = []
+        ConfigurationChangeListener listener = { c, keys -> changes << keys } as ConfigurationChangeListener
+        configuration.addConfigurationChangeListener(listener)
+        configuration.addConfigurationChangeListener('key', listener)
+
+        when:
+        configuration.removeConfigurationChangeListener(listener)
+        configuration.set('key.foo', 'foo')
+
+        then:
+        changes.empty
+    }
+
+    def 'Flat maps are snapshots of the configuration'() {
+        given:
+        assert configuration instanceof MutableConfiguration
+        Map map = configuration.asFlatMap()
+
+        expect:
+        map.is(configuration.asFlatMap())
+
+        when:
+        configuration.set('key.foo', 'foo')
+
+        then:
+        !map.containsKey('key.foo')
+        configuration.asFlatMap()['key.foo'] == 'foo'
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
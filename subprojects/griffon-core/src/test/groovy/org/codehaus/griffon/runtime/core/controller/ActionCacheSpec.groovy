@@ -0,0 +1,113 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.controller
+
+import griffon.core.artifact.GriffonController
+import integration.SimpleController
+import spock.lang.Specification
+
+class ActionCacheSpec extends Specification {
+    void 'Actions are cached per controller'() {
+        given:
+        AbstractActionManager.ActionCache cache = new AbstractActionManager.ActionCache()
+        GriffonController controller = new SimpleController()
+        Map actions = [foo: 'FOO']
+
+        expect:
+        cache.get(controller) == [:]
+
+        when:
+        cache.set(controller, actions)
+
+        then:
+        cache.get(controller).is(actions)
+        cache.size() == 1
+        cache.values().toList() == [actions]
+    }
+
+    void 'Controllers are compared by identity'() {
+        given:
+        AbstractActionManager.ActionCache cache = new AbstractActionManager.ActionCache()
+        GriffonController controller1 = new EqualController()
+        GriffonController controller2 = new EqualController()
+        assert controller1 == controller2
+
+        when:
+        cache.set(controller1, [foo: 'FOO'])
+        cache.set(controller2, [bar: 'BAR'])
+
+        then:
+        cache.size() == 2
+        cache.get(controller1) == [foo: 'FOO']
+        cache.get(controller2) == [bar: 'BAR']
+    }
+
+    void 'Replacing actions keeps a single entry per controller'() {
+        given:
+        AbstractActionManager.ActionCache cache = new AbstractActionManager.ActionCache()
+        GriffonController controller = new SimpleController()
+
+        when:
+        cache.set(controller, [foo: 'FOO'])
+        cache.set(controller, [bar: 'BAR'])
+
+        then:
+        cache.size() == 1
+        cache.get(controller) == [bar: 'BAR']
+    }
+
+    void 'Removing a controller clears its actions'() {
+        given:
+        AbstractActionManager.ActionCache cache = new AbstractActionManager.ActionCache()
+        GriffonController controller = new SimpleController()
+        GriffonController other = new SimpleController()
+        cache.set(controller, [foo: 'FOO'])
+        cache.set(other, [bar: 'BAR'])
+
+        when:
+        cache.remove(controller)
+
+        then:
+        cache.get(controller) == [:]
+        cache.get(other) == [bar: 'BAR']
+        cache.size() == 1
+    }
+
+    void 'Keys compare controllers by identity'() {
+        given:
+        GriffonController controller = new EqualController()
+        AbstractActionManager.ControllerKey key1 = new AbstractActionManager.ControllerKey(controller)
+        AbstractActionManager.ControllerKey key2 = new AbstractActionManager.ControllerKey(controller)
+        AbstractActionManager.ControllerKey other = new AbstractActionManager.ControllerKey(new EqualController())
+
+        expect:
+        key1 == key2
+        key1.hashCode() == System.identityHashCode(controller)
+        key1 != other
+    }
+
+    static class EqualController extends SimpleController {
+        @Override
+        boolean equals(Object obj) {
+            obj instanceof EqualController
+        }
+
+        @Override
+        int hashCode() {
+            1
+        }
+    }
+}
@@ -25,6 +25,7 @@ import griffon.core.RunnableWithArgs
 import griffon.core.event.Event
 import griffon.core.event.EventRouter
 import griffon.core.threading.UIThreadManager
+import griffon.exceptions.InstanceMethodInvocationException
 import griffon.util.AnnotationUtils
 import org.codehaus.griffon.runtime.core.DefaultExecutorServiceManager
 import org.codehaus.griffon.runtime.core.ExceptionHandlerProvider
@@ -35,7 +36,13 @@ import spock.lang.Specification
 
 import javax.annotation.Nullable
 import javax.inject.Inject
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 class DefaultEventRouterSpec extends Specification {
     @Rule
@@ -282,6 +289,85 @@ class DefaultEventRouterSpec extends Specification {
         eventHandler.args == [1, 'one']
     }
 
+    def 'Bean listeners are notified before functional listeners, each in registration order'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        List<String> notified = []
+        RunnableWithArgs functional1 = { Object... args -> notified << 'functional1' } as RunnableWithArgs
+        RunnableWithArgs functional2 = { Object... args -> notified << 'functional2' } as RunnableWithArgs
+        OrderedEventHandler bean1 = new OrderedEventHandler(name: 'bean1', notified: notified)
+        OrderedEventHandler bean2 = new OrderedEventHandler(name: 'bean2', notified: notified)
+
+        when:
+
+        eventRouter.addEventListener(eventName, functional1)
+        eventRouter.addEventListener(bean1)
+        eventRouter.addEventListener(eventName, functional2)
+        eventRouter.addEventListener(bean2)
+        eventRouter.publishEvent(eventName, [1, 'one'])
+
+        then:
+
+        notified == ['bean1', 'bean2', 'functional1', 'functional2']
+        eventRouter.getEventListeners(eventName).toList() == [bean1, bean2, functional1, functional2]
+    }
+
+    def 'Failures of bean listeners are reported and do not prevent other listeners from being notified'() {
+        given:
+
+        EventRouter router = new DefaultEventRouter()
+        List<Throwable> reported = []
+        Thread thread = Thread.currentThread()
+        Thread.UncaughtExceptionHandler previous = thread.uncaughtExceptionHandler
+        thread.uncaughtExceptionHandler = { Thread t, Throwable e -> reported << e } as Thread.UncaughtExceptionHandler
+        EventHandler eventHandler = new EventHandler()
+        router.addEventListener(new FailingEventHandler())
+        router.addEventListener(eventHandler)
+
+        when:
+
+        router.publishEvent(MyEvent1.simpleName, [1, 'one'])
+
+        then:
+
+        eventHandler.args == [1, 'one']
+        reported.size() == 1
+        reported[0] instanceof InstanceMethodInvocationException
+        reported[0].cause instanceof IllegalStateException
+
+        cleanup:
+
+        thread.uncaughtExceptionHandler = previous
+    }
+
+    def 'Invoking an event by name with a bean listener selects the handler matching the arguments'() {
+        given:
+
+        String eventName1 = MyEvent1.simpleName
+        EventHandler eventHandler = new EventHandler()
+        MyEvent1 event = new MyEvent1(this)
+        eventRouter.addEventListener(eventHandler)
+
+        when:
+
+        eventRouter.publishEvent(eventName1, [1, 'one'])
+        eventRouter.publishEvent(eventName1, ['one', 1])
+        eventRouter.publishEvent(eventName1, [1])
+
+        then:
+
+        eventHandler.args == [1, 'one']
+
+        when:
+
+        eventRouter.publishEvent(eventName1, [event])
+
+        then:
+
+        eventHandler.args == [event]
+    }
+
     def 'Invoking an event by name in asynchronous mode with a bean listener'() {
         given:
 
@@ -729,6 +815,191 @@ class DefaultEventRouterSpec extends Specification {
         eventRouter.getEventListeners(eventName2).size() == 2
     }
 
+    def 'Invoking a typed event notifies listeners registered for the event type and its supertypes'() {
+        given:
+
+        TestRunnableEventHandler exactHandler = new TestRunnableEventHandler()
+        TestRunnableEventHandler superHandler = new TestRunnableEventHandler()
+        TestRunnableEventHandler otherHandler = new TestRunnableEventHandler()
+        eventRouter.addTypedEventListener(MyEvent1, exactHandler)
+        eventRouter.addTypedEventListener(Event, superHandler)
+        eventRouter.addTypedEventListener(MyEvent2, otherHandler)
+        MyEvent1 event = new MyEvent1(this)
+
+        when:
+
+        eventRouter.publishTypedEvent(event)
+
+        then:
+
+        exactHandler.args == [event] as Object[]
+        superHandler.args == [event] as Object[]
+        !otherHandler.args
+    }
+
+    def 'Typed events with the same simple name do not collide'() {
+        given:
+
+        TestRunnableEventHandler eventHandler1 = new TestRunnableEventHandler()
+        TestRunnableEventHandler eventHandler2 = new TestRunnableEventHandler()
+        eventRouter.addTypedEventListener(Pkg1.Clash, eventHandler1)
+        eventRouter.addTypedEventListener(Pkg2.Clash, eventHandler2)
+        Pkg1.Clash event = new Pkg1.Clash(this)
+
+        when:
+
+        eventRouter.publishTypedEvent(event)
+
+        then:
+
+        eventHandler1.args == [event] as Object[]
+        !eventHandler2.args
+    }
+
+    def 'Register and unregister a bean as a typed listener'() {
+        given:
+
+        TypedEventHandler eventHandler = new TypedEventHandler()
+        MyEvent1 event1 = new MyEvent1(this)
+        MyEvent2 event2 = new MyEvent2(this)
+
+        when:
+
+        eventRouter.addTypedEventListener(eventHandler)
+        eventRouter.publishTypedEvent(event1)
+        eventRouter.publishTypedEvent(event2)
+
+        then:
+
+        eventHandler.events == [event1, event1, event2]
+        eventRouter.eventListeners.toList() == [eventHandler]
+
+        when:
+
+        eventRouter.removeTypedEventListener(eventHandler)
+        eventRouter.publishTypedEvent(new MyEvent1(this))
+
+        then:
+
+        eventHandler.events == [event1, event1, event2]
+        !eventRouter.eventListeners
+    }
+
+    def 'A batch listener added while a coalescing window is open waits for the next window'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        List<List> batches = Collections.synchronizedList([])
+        CountDownLatch done = new CountDownLatch(1)
+        eventRouter.eventCoalescingWindow = 100L
+        RunnableWithArgs batchListener = { Object... args ->
+            batches << args[0]
+            done.countDown()
+        } as RunnableWithArgs
+
+        when:
+
+        eventRouter.publishEventCoalesced(eventName, [1])
+        eventRouter.addBatchEventListener(eventName, batchListener)
+        eventRouter.publishEventCoalesced(eventName, [2])
+        Thread.sleep(300L)
+
+        then:
+
+        batches == []
+
+        when:
+
+        eventRouter.publishEventCoalesced(eventName, [3])
+        eventRouter.publishEventCoalesced(eventName, [4])
+        done.await(10, TimeUnit.SECONDS)
+
+        then:
+
+        batches == [[[3], [4]]]
+    }
+
+    def 'Suspending event publishing only affects the current thread'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        List<Object> received = Collections.synchronizedList([])
+        eventRouter.addEventListener(eventName, { Object... args -> received << args[0] } as RunnableWithArgs)
+
+        when:
+
+        eventRouter.suspendEventPublishingOnCurrentThread()
+        eventRouter.publishEvent(eventName, ['suspended'])
+        Thread thread = Thread.start { eventRouter.publishEvent(eventName, ['other']) }
+        thread.join()
+        eventRouter.resumeEventPublishingOnCurrentThread()
+        eventRouter.publishEvent(eventName, ['resumed'])
+
+        then:
+
+        received == ['other', 'resumed']
+        eventRouter.eventPublishingEnabled
+    }
+
+    def 'Register and unregister a typed listener'() {
+        given:
+
+        TestRunnableEventHandler eventHandler = new TestRunnableEventHandler()
+        eventRouter.addTypedEventListener(Event, eventHandler)
+        eventRouter.publishTypedEvent(new MyEvent1(this))
+        eventRouter.removeTypedEventListener(Event, eventHandler)
+        eventHandler.args = null
+
+        when:
+
+        eventRouter.publishTypedEvent(new MyEvent1(this))
+        eventRouter.publishTypedEventAsync(new MyEvent2(this))
+        eventRouter.publishTypedEventOutsideUI(new MyEvent2(this))
+        Thread.sleep(200L)
+
+        then:
+
+        !eventHandler.args
+    }
+
+    def 'Concurrent registration and publishing keeps listener snapshots consistent'() {
+        given:
+
+        String eventName = MyEvent1.simpleName
+        int threads = 8
+        int iterations = 1000
+        CountingRunnableEventHandler stableHandler = new CountingRunnableEventHandler()
+        eventRouter.addEventListener(eventName, stableHandler)
+        ExecutorService pool = Executors.newFixedThreadPool(threads * 2)
+        CountDownLatch start = new CountDownLatch(1)
+        List<Future<?>> futures = []
+
+        when:
+
+        threads.times {
+            futures << pool.submit({
+                start.await()
+                iterations.times {
+                    TestRunnableEventHandler transientHandler = new TestRunnableEventHandler()
+                    eventRouter.addEventListener(eventName, transientHandler)
+                    eventRouter.removeEventListener(eventName, transientHandler)
+                }
+            } as Callable)
+            futures << pool.submit({
+                start.await()
+                iterations.times { eventRouter.publishEvent(eventName, [1, 'one']) }
+            } as Callable)
+        }
+        start.countDown()
+        futures*.get(30, TimeUnit.SECONDS)
+        pool.shutdown()
+
+        then:
+
+        stableHandler.count.get() == threads * iterations
+        eventRouter.getEventListeners(eventName).toList() == [stableHandler]
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
@@ -761,6 +1032,15 @@ class DefaultEventRouterSpec extends Specification {
         }
     }
 
+    static class CountingRunnableEventHandler implements RunnableWithArgs {
+        final AtomicInteger count = new AtomicInteger()
+
+        @Override
+        void run(@Nullable Object... args) {
+            count.incrementAndGet()
+        }
+    }
+
     static class MyEvent1 extends Event {
         MyEvent1(Object source) {
             super(source)
@@ -773,6 +1053,53 @@ class DefaultEventRouterSpec extends Specification {
         }
     }
 
+    static class Pkg1 {
+        static class Clash extends Event {
+            Clash(Object source) {
+                super(source)
+            }
+        }
+    }
+
+    static class Pkg2 {
+        static class Clash extends Event {
+            Clash(Object source) {
+                super(source)
+            }
+        }
+    }
+
+    static class TypedEventHandler {
+        List<Event> events = []
+
+        void onMyEvent1(MyEvent1 event) {
+            events << event
+        }
+
+        void onAnyEvent(Event event) {
+            events << event
+        }
+
+        void onMyEvent2(int arg0) {
+            throw new AssertionError('not a typed handler')
+        }
+    }
+
+    static class OrderedEventHandler {
+        String name
+        List<String> notified
+
+        void onMyEvent1(int arg0, String arg1) {
+            notified << name
+        }
+    }
+
+    static class FailingEventHandler {
+        void onMyEvent1(int arg0, String arg1) {
+            throw new IllegalStateException('boom')
+        }
+    }
+
     static class EventHandler {
         List args
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+class EventCoalescerSpec extends Specification {
+    private ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor()
+
+    void cleanup() {
+        scheduler.shutdownNow()
+    }
+
+    def 'Events with the same key are replaced within a window'() {
+        given:
+
+        List<String> names = Collections.synchronizedList([])
+        List<Collection<List<?>>> flushed = Collections.synchronizedList([])
+        CountDownLatch done = new CountDownLatch(1)
+        EventCoalescer coalescer = new EventCoalescer(scheduler, { String eventName, Collection<List<?>> latest, List<List<?>> batch, Object[] batchListeners ->
+            names << eventName
+            flushed << new ArrayList<>(latest)
+            done.countDown()
+        } as EventCoalescer.Sink, 200L)
+
+        when:
+
+        100.times { int i -> coalescer.publish('Progress', 'a', [i], null) }
+        coalescer.publish('Progress', 'b', ['b'], null)
+        coalescer.publish('Progress', 'a', ['last'], null)
+
+        then:
+
+        coalescer.pendingEventCount == 102
+
+        when:
+
+        done.await(10, TimeUnit.SECONDS)
+
+        then:
+
+        names == ['Progress']
+        flushed == [[['last'], ['b']]]
+        coalescer.pendingEventCount == 0
+    }
+
+    def 'Batch delivery keeps every event in publication order'() {
+        given:
+
+        List<List<?>> delivered = Collections.synchronizedList([])
+        CountDownLatch done = new CountDownLatch(1)
+        EventCoalescer coalescer = new EventCoalescer(scheduler, { String eventName, Collection<List<?>> latest, List<List<?>> batch, Object[] batchListeners ->
+            delivered.addAll(batch)
+            done.countDown()
+        } as EventCoalescer.Sink, 100L)
+
+        when:
+
+        10.times { int i -> coalescer.publish('Status', null, [i], ['listener'] as Object[]) }
+        done.await(10, TimeUnit.SECONDS)
+
+        then:
+
+        delivered == (0..<10).collect { [it] }
+    }
+
+    def 'Batch listeners are captured when the window opens'() {
+        given:
+
+        List<List<?>> delivered = Collections.synchronizedList([])
+        List<Object> recipients = Collections.synchronizedList([])
+        CountDownLatch done = new CountDownLatch(1)
+        EventCoalescer coalescer = new EventCoalescer(scheduler, { String eventName, Collection<List<?>> latest, List<List<?>> batch, Object[] batchListeners ->
+            delivered.addAll(batch)
+            recipients.addAll(batchListeners)
+            done.countDown()
+        } as EventCoalescer.Sink, 100L)
+
+        when:
+
+        coalescer.publish('Status', null, [0], null)
+        coalescer.publish('Status', null, [1], ['late'] as Object[])
+        done.await(10, TimeUnit.SECONDS)
+
+        then:
+
+        delivered == []
+        recipients == []
+    }
+
+    def 'Window must not be negative'() {
+        when:
+
+        new EventCoalescer(scheduler, {} as EventCoalescer.Sink, -1L)
+
+        then:
+
+        thrown(IllegalArgumentException)
+    }
+
+    def 'Windows rejected by the scheduler are flushed on the publishing thread'() {
+        given:
+
+        List<Collection<List<?>>> flushed = []
+        EventCoalescer coalescer = new EventCoalescer(scheduler, { String eventName, Collection<List<?>> latest, List<List<?>> batch, Object[] batchListeners ->
+            flushed << new ArrayList<>(latest)
+        } as EventCoalescer.Sink, 100L)
+        scheduler.shutdown()
+
+        when:
+
+        coalescer.publish('Progress', 'a', ['first'], null)
+        coalescer.publish('Progress', 'a', ['second'], null)
+
+        then:
+
+        flushed == [[['first']], [['second']]]
+        coalescer.pendingEventCount == 0
+    }
+}
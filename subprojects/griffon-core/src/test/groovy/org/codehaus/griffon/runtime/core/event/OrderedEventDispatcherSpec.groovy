@@ -0,0 +1,229 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event
+
+import griffon.core.event.OverflowPolicy
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class OrderedEventDispatcherSpec extends Specification {
+    private ExecutorService executorService = Executors.newFixedThreadPool(4)
+
+    void cleanup() {
+        executorService.shutdownNow()
+    }
+
+    def 'Tasks on the same lane are executed in FIFO order'() {
+        given:
+
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(executorService, 16, OverflowPolicy.BLOCK)
+        List<Integer> delivered = Collections.synchronizedList([])
+        CountDownLatch done = new CountDownLatch(500)
+
+        when:
+
+        500.times { int i ->
+            dispatcher.dispatch('Telemetry', { delivered << i; done.countDown() } as Runnable)
+        }
+        done.await(10, TimeUnit.SECONDS)
+
+        then:
+
+        delivered == (0..<500).toList()
+        dispatcher.getQueueDepth('Telemetry') == 0
+    }
+
+    def 'Overflow policy #policy keeps the lane bounded'() {
+        given:
+
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(executorService, 2, policy)
+        CountDownLatch gate = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(1)
+        List<String> delivered = Collections.synchronizedList([])
+
+        when:
+
+        dispatcher.dispatch('Progress', { started.countDown(); gate.await(); delivered << 'first' } as Runnable)
+        started.await(10, TimeUnit.SECONDS)
+        dispatcher.dispatch('Progress', { delivered << 'a' } as Runnable)
+        dispatcher.dispatch('Progress', { delivered << 'b' } as Runnable)
+        dispatcher.dispatch('Progress', { delivered << 'c' } as Runnable)
+
+        then:
+
+        dispatcher.getQueueDepth('Progress') == 2
+        dispatcher.queueDepths == [Progress: 2]
+
+        when:
+
+        gate.countDown()
+        Thread.sleep(200L)
+
+        then:
+
+        delivered == expected
+        dispatcher.droppedEventCount == dropped
+        dispatcher.coalescedEventCount == coalesced
+
+        where:
+        policy                     | expected            | dropped | coalesced
+        OverflowPolicy.DROP_OLDEST | ['first', 'b', 'c'] | 1       | 0
+        OverflowPolicy.COALESCE    | ['first', 'a', 'c'] | 0       | 1
+    }
+
+    def 'Overflow policy FAIL rejects tasks when the lane is full'() {
+        given:
+
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(executorService, 1, OverflowPolicy.FAIL)
+        CountDownLatch gate = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(1)
+
+        when:
+
+        dispatcher.dispatch('Progress', { started.countDown(); gate.await() } as Runnable)
+        started.await(10, TimeUnit.SECONDS)
+        dispatcher.dispatch('Progress', {} as Runnable)
+        dispatcher.dispatch('Progress', {} as Runnable)
+
+        then:
+
+        thrown(RejectedExecutionException)
+        dispatcher.rejectedEventCount == 1
+
+        cleanup:
+
+        gate.countDown()
+    }
+
+    def 'Overflow policy BLOCK waits for room in the lane'() {
+        given:
+
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(executorService, 1, OverflowPolicy.BLOCK)
+        CountDownLatch gate = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch done = new CountDownLatch(1)
+
+        when:
+
+        dispatcher.dispatch('Progress', { started.countDown(); gate.await() } as Runnable)
+        started.await(10, TimeUnit.SECONDS)
+        dispatcher.dispatch('Progress', {} as Runnable)
+        Thread.start {
+            dispatcher.dispatch('Progress', { done.countDown() } as Runnable)
+        }
+        Thread.sleep(100L)
+
+        then:
+
+        done.count == 1
+        dispatcher.getQueueDepth('Progress') == 1
+
+        when:
+
+        gate.countDown()
+
+        then:
+
+        done.await(10, TimeUnit.SECONDS)
+    }
+
+    def 'Overflow policy BLOCK rejects tasks published across lanes by a draining thread'() {
+        given:
+
+        ExecutorService singleThread = Executors.newSingleThreadExecutor()
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(singleThread, 1, OverflowPolicy.BLOCK)
+        CountDownLatch gate = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch done = new CountDownLatch(1)
+        List<Throwable> failures = Collections.synchronizedList([])
+
+        when:
+
+        // the only pool thread drains 'Source' and publishes to 'Target', which it would have to drain itself
+        dispatcher.dispatch('Source', {
+            started.countDown()
+            gate.await()
+            try {
+                dispatcher.dispatch('Target', {} as Runnable)
+            } catch (RejectedExecutionException e) {
+                failures << e
+            }
+            done.countDown()
+        } as Runnable)
+        started.await(10, TimeUnit.SECONDS)
+        dispatcher.dispatch('Target', {} as Runnable)
+        gate.countDown()
+
+        then:
+
+        done.await(10, TimeUnit.SECONDS)
+        failures.size() == 1
+        dispatcher.rejectedEventCount == 1
+
+        cleanup:
+
+        singleThread.shutdownNow()
+    }
+
+    def 'Overflow policy BLOCK gives up once the timeout expires'() {
+        given:
+
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(executorService, 1, OverflowPolicy.BLOCK, 100L, TimeUnit.MILLISECONDS)
+        CountDownLatch gate = new CountDownLatch(1)
+        CountDownLatch started = new CountDownLatch(1)
+
+        when:
+
+        dispatcher.dispatch('Progress', { started.countDown(); gate.await() } as Runnable)
+        started.await(10, TimeUnit.SECONDS)
+        dispatcher.dispatch('Progress', {} as Runnable)
+        dispatcher.dispatch('Progress', {} as Runnable)
+
+        then:
+
+        thrown(RejectedExecutionException)
+        dispatcher.rejectedEventCount == 1
+
+        cleanup:
+
+        gate.countDown()
+    }
+
+    def 'Exceptions thrown by tasks are reported to the supplied handler'() {
+        given:
+
+        List<Throwable> reported = Collections.synchronizedList([])
+        CountDownLatch done = new CountDownLatch(2)
+        Thread.UncaughtExceptionHandler handler = { Thread t, Throwable e -> reported << e; done.countDown() } as Thread.UncaughtExceptionHandler
+        OrderedEventDispatcher dispatcher = new OrderedEventDispatcher(executorService, 4, OverflowPolicy.BLOCK, 0L, TimeUnit.MILLISECONDS, handler)
+        RuntimeException failure = new RuntimeException('boom')
+
+        when:
+
+        dispatcher.dispatch('Progress', { throw failure } as Runnable)
+        dispatcher.dispatch('Progress', { done.countDown() } as Runnable)
+        done.await(10, TimeUnit.SECONDS)
+
+        then:
+
+        reported == [failure]
+    }
+}
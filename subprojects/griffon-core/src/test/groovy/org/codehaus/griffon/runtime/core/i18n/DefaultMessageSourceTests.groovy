@@ -175,6 +175,15 @@ class DefaultMessageSourceTests {
         assert '@[]' == messageSource.resolveMessageValue('not.a.reference.key3', Locale.default)
     }
 
+    @Test
+    void resolveMessageValueOrNullDoesNotThrowOnMissingKeys() {
+        assert messageSource.resolveMessageValueOrNull('healthy.proverb.index', Locale.default) == 'An {0} a day keeps the {1} away'
+        assert messageSource.resolveMessageValueOrNull('healthy.proverb.bogus', Locale.default) == null
+        // second lookup is served by the negative cache
+        assert messageSource.resolveMessageValueOrNull('healthy.proverb.bogus', Locale.default) == null
+        assert messageSource.getMessage('healthy.proverb.bogus', 'not found :(') == 'not found :('
+    }
+
     @Test
     void getMessageFromCustomMessageSource() {
         CustomMessageSource messageSource = new CustomMessageSource()
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.injection
+
+import griffon.core.injection.Injector
+import spock.lang.Specification
+
+import static griffon.util.AnnotationUtils.named
+
+class MemoizedInstanceSpec extends Specification {
+    def 'Instances are resolved once per injector'() {
+        given:
+        List lookups = []
+        Injector injector = [getInstance: { Object[] args -> lookups << args.toList(); 'value' }] as Injector
+        MemoizedInstance<String> memoized = new MemoizedInstance<>(String, 'name')
+
+        when:
+        String first = memoized.get(injector)
+        String second = memoized.get(injector)
+
+        then:
+        first == 'value'
+        second.is(first)
+        lookups == [[String, named('name')]]
+
+        when:
+        Injector other = [getInstance: { Object[] args -> lookups << args.toList(); 'other' }] as Injector
+
+        then:
+        memoized.get(other) == 'other'
+        lookups.size() == 2
+    }
+
+    def 'Unqualified instances are resolved by type'() {
+        given:
+        List lookups = []
+        Injector injector = [getInstance: { Object[] args -> lookups << args.toList(); 'value' }] as Injector
+
+        expect:
+        new MemoizedInstance<>(String).get(injector) == 'value'
+        lookups == [[String]]
+    }
+}
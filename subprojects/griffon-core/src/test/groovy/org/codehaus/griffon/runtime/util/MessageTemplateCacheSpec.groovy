@@ -0,0 +1,64 @@
+/*
+ * Copyright 2008-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.text.MessageFormat
+
+@Unroll
+class MessageTemplateCacheSpec extends Specification {
+    private final MessageTemplateCache cache = new MessageTemplateCache(2)
+
+    void "Positional pattern '#pattern' is formatted like MessageFormat"() {
+        expect:
+        cache.format(pattern, args as Object[]) == MessageFormat.format(pattern, args as Object[])
+        cache.format(pattern, args as Object[]) == MessageFormat.format(pattern, args as Object[])
+
+        where:
+        pattern                       | args
+        'Hello {0}'                   | ['World']
+        '{0} + {1} = {2}'             | [1, 2, 3]
+        'Total: {0,number,#.##}'      | [1234.5678]
+        '''It''s {0}'''               | ['quoted']
+        'No arguments'                | ['ignored']
+    }
+
+    void "Named pattern '#pattern' is formatted with #args"() {
+        expect:
+        cache.format(pattern, args) == result
+
+        where:
+        pattern                 | args                    || result
+        'Hello {:name}'         | [name: 'World']         || 'Hello World'
+        '{:a}{:b}{:a}'          | [a: 1, b: 2]            || '121'
+        'Hello {:name}'         | [:]                     || 'Hello {:name}'
+        'Hello {:name}'         | [name: null]            || 'Hello {:name}'
+        'Hello {:name'          | [name: 'World']         || 'Hello {:name'
+        'Hello {:x {:name}'     | [name: 'World']         || 'Hello {:x World'
+        'Plain text'            | [name: 'World']         || 'Plain text'
+    }
+
+    void "Cache is bounded"() {
+        when:
+        10.times { int i -> cache.format("Value {0} #$i", [i] as Object[]) }
+
+        then:
+        cache.format('Value {0} #9', [9] as Object[]) == 'Value 9 #9'
+        cache.@positionalTemplates.values().every { it.size() <= 2 }
+    }
+}
@@ -40,6 +40,7 @@ import griffon.core.resources.ResourceResolver;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
 import org.codehaus.griffon.runtime.core.MVCGroupExceptionHandler;
+import org.codehaus.griffon.runtime.core.injection.ApplicationServices;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,7 +54,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
-import static griffon.util.AnnotationUtils.named;
 import static griffon.util.GriffonApplicationUtils.parseLocale;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -77,6 +77,8 @@ public abstract class AbstractGriffonApplet extends JApplet implements GriffonAp
     private ApplicationPhase phase = ApplicationPhase.INITIALIZE;
     private Injector<?> injector;
 
+    private final ApplicationServices services = new ApplicationServices();
+
     public AbstractGriffonApplet() {
         this(EMPTY_ARGS);
     }
@@ -163,79 +165,79 @@ public abstract class AbstractGriffonApplet extends JApplet implements GriffonAp
     @Nonnull
     @Override
     public ApplicationClassLoader getApplicationClassLoader() {
-        return injector.getInstance(ApplicationClassLoader.class);
+        return services.getApplicationClassLoader(injector);
     }
 
     @Nonnull
     @Override
     public Context getContext() {
-        return injector.getInstance(Context.class, named("applicationContext"));
+        return services.getContext(injector);
     }
 
     @Nonnull
     @Override
     public Configuration getConfiguration() {
-        return injector.getInstance(Configuration.class);
+        return services.getConfiguration(injector);
     }
 
     @Nonnull
     @Override
     public UIThreadManager getUIThreadManager() {
-        return injector.getInstance(UIThreadManager.class);
+        return services.getUIThreadManager(injector);
     }
 
     @Nonnull
     @Override
     public EventRouter getEventRouter() {
-        return injector.getInstance(EventRouter.class, named("applicationEventRouter"));
+        return services.getEventRouter(injector);
     }
 
     @Nonnull
     @Override
     public ArtifactManager getArtifactManager() {
-        return injector.getInstance(ArtifactManager.class);
+        return services.getArtifactManager(injector);
     }
 
     @Nonnull
     @Override
     public ActionManager getActionManager() {
-        return injector.getInstance(ActionManager.class);
+        return services.getActionManager(injector);
     }
 
     @Nonnull
     @Override
     public AddonManager getAddonManager() {
-        return injector.getInstance(AddonManager.class);
+        return services.getAddonManager(injector);
     }
 
     @Nonnull
     @Override
     public MVCGroupManager getMvcGroupManager() {
-        return injector.getInstance(MVCGroupManager.class);
+        return services.getMvcGroupManager(injector);
     }
 
     @Nonnull
     @Override
     public MessageSource getMessageSource() {
-        return injector.getInstance(MessageSource.class, named("applicationMessageSource"));
+        return services.getMessageSource(injector);
     }
 
     @Nonnull
     @Override
     public ResourceResolver getResourceResolver() {
-        return injector.getInstance(ResourceResolver.class, named("applicationResourceResolver"));
+        return services.getResourceResolver(injector);
     }
 
     @Nonnull
     @Override
     public ResourceHandler getResourceHandler() {
-        return injector.getInstance(ResourceHandler.class);
+        return services.getResourceHandler(injector);
     }
 
     @Nonnull
     @Override
     public ResourceInjector getResourceInjector() {
-        return injector.getInstance(ResourceInjector.class, named("applicationResourceInjector"));
+        return services.getResourceInjector(injector);
     }
 
     @Nonnull
@@ -255,7 +257,7 @@ public abstract class AbstractGriffonApplet extends JApplet implements GriffonAp
     @Override
     @SuppressWarnings("unchecked")
     public <W> WindowManager<W> getWindowManager() {
-        return injector.getInstance(WindowManager.class);
+        return services.getWindowManager(injector);
     }
 
     protected ApplicationConfigurer getApplicationConfigurer() {